@@ -15,6 +15,7 @@
  */
 package io.github.swagger2markup;
 
+import io.github.swagger2markup.adoc.AsciidocConverter;
 import io.github.swagger2markup.adoc.ast.impl.DocumentImpl;
 import io.github.swagger2markup.config.OpenAPILabels;
 import io.github.swagger2markup.config.builder.OpenAPI2MarkupConfigBuilder;
@@ -24,6 +25,7 @@ import io.github.swagger2markup.internal.document.ComponentsDocument;
 import io.github.swagger2markup.internal.document.OverviewDocument;
 import io.github.swagger2markup.internal.document.PathsDocument;
 import io.github.swagger2markup.internal.document.SecurityDocument;
+import io.github.swagger2markup.utils.FileContentUtils;
 import io.github.swagger2markup.utils.URIUtils;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.OpenAPIV3Parser;
@@ -43,6 +45,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
 
 public class OpenAPI2MarkupConverter extends AbstractSchema2MarkupConverter<OpenAPI> {
     private final OverviewDocument overviewDocument;
@@ -170,6 +173,26 @@ public class OpenAPI2MarkupConverter extends AbstractSchema2MarkupConverter<Open
         writeToFile(applySecurityDocument(), outputDirectory.resolve(openAPIContext.config.getSecurityDocument()));
     }
 
+    /**
+     * Converts the OpenAPI specification into several languages, each into its own output directory.<br>
+     * The OpenAPI specification is parsed and extended only once. Only the labels differ between the languages, as if
+     * {@link #toFolder(Path)} was called with a config using that output language.
+     *
+     * @param outputDirectories the output directory path of each language
+     */
+    public void toLocalizedFolders(Map<Language, Path> outputDirectories) {
+        Validate.notEmpty(outputDirectories, "outputDirectories must not be empty");
+        outputDirectories.forEach((language, outputDirectory) -> {
+            Validate.notNull(language, "language must not be null");
+            OpenAPI2MarkupConverter converter = this;
+            if (language != openAPIContext.config.getLanguage()) {
+                converter = new OpenAPI2MarkupConverter(new OpenAPIContext(openAPIContext.config, openAPIContext.extensionRegistry,
+                    openAPIContext.getSchema(), openAPIContext.getSwaggerLocation(), new OpenAPILabels(language)));
+            }
+            converter.toFolder(outputDirectory);
+        });
+    }
+
     @Override
     public void toFile(Path outputFile) {
         Validate.notNull(outputFile, "outputFile must not be null");
@@ -192,10 +215,13 @@ public class OpenAPI2MarkupConverter extends AbstractSchema2MarkupConverter<Open
 
     @Override
     public String toString() {
-        return applyOverviewDocument().convert() +
-            applyPathsDocument().convert() +
-            applyComponentsDocument().convert() +
-            applySecurityDocument().convert();
+        AsciidocConverter converter = AsciidocConverter.getSharedInstance();
+        StringBuilder sb = new StringBuilder();
+        converter.convert(applyOverviewDocument(), null, sb);
+        converter.convert(applyPathsDocument(), null, sb);
+        converter.convert(applyComponentsDocument(), null, sb);
+        converter.convert(applySecurityDocument(), null, sb);
+        return sb.toString();
     }
 
     private Document applyOverviewDocument() {
@@ -244,8 +270,21 @@ public class OpenAPI2MarkupConverter extends AbstractSchema2MarkupConverter<Open
                 throw new RuntimeException("Failed create directory", e);
             }
         }
+        String content = document.convert();
+        if (openAPIContext.config.isWriteIfChangedEnabled()) {
+            try {
+                if (FileContentUtils.hasContent(file, content.getBytes(StandardCharsets.UTF_8))) {
+                    if (logger.isInfoEnabled()) {
+                        logger.info("Markup document unchanged: {}", file);
+                    }
+                    return;
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read file", e);
+            }
+        }
         try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
-            writer.write(document.convert());
+            writer.write(content);
         } catch (IOException e) {
             throw new RuntimeException("Failed to write file", e);
         }
@@ -1,6 +1,7 @@
 package io.github.swagger2markup.config;
 
 import io.github.swagger2markup.Labels;
+import io.github.swagger2markup.Language;
 import io.github.swagger2markup.OpenSchema2MarkupConfig;
 
 import java.util.ResourceBundle;
@@ -69,6 +70,10 @@ public class OpenAPILabels extends Labels {
     public static final String TABLE_TITLE_SERVER_VARIABLES = "table_title_server_variables";
 
     public OpenAPILabels(OpenSchema2MarkupConfig config) {
-        super(ResourceBundle.getBundle("io/github/swagger2markup/lang/labels", config.getLanguage().toLocale()));
+        this(config.getLanguage());
+    }
+
+    public OpenAPILabels(Language language) {
+        super(ResourceBundle.getBundle("io/github/swagger2markup/lang/labels", language.toLocale()));
     }
 }
@@ -4,6 +4,8 @@ import io.github.swagger2markup.OpenAPI2MarkupConverter;
 import io.github.swagger2markup.adoc.ast.impl.SectionImpl;
 import io.github.swagger2markup.extension.MarkupComponent;
 import io.github.swagger2markup.internal.component.*;
+import io.github.swagger2markup.internal.helper.SchemaReferenceHelpers;
+import io.github.swagger2markup.internal.helper.SchemaReferenceHelpers.ReachableComponents;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.links.Link;
@@ -18,6 +20,7 @@ import org.asciidoctor.ast.StructuralNode;
 import java.util.Map;
 
 import static io.github.swagger2markup.config.OpenAPILabels.*;
+import static io.github.swagger2markup.internal.helper.SchemaReferenceHelpers.retainReachable;
 
 public class ComponentsDocument extends MarkupComponent<Document, ComponentsDocument.Parameters, Document> {
 
@@ -64,18 +67,27 @@ public class ComponentsDocument extends MarkupComponent<Document, ComponentsDocu
         String componentSectionId = "_components_schemas";
         definitionsSection.setId(componentSectionId);
 
-        appendComponentsSchemasSection(definitionsSection, componentSectionId, components.getSchemas());
+        @SuppressWarnings("rawtypes") Map<String, Schema> schemas = components.getSchemas();
         Map<String, Parameter> parameters = components.getParameters();
+        Map<String, ApiResponse> responses = components.getResponses();
+        Map<String, Header> headers = components.getHeaders();
+        if (config.isUnreachableDefinitionsPruningEnabled()) {
+            ReachableComponents reachableComponents = SchemaReferenceHelpers.getReachableComponents(context.getSchema());
+            schemas = retainReachable(schemas, reachableComponents.getSchemas());
+            parameters = retainReachable(parameters, reachableComponents.getParameters());
+            responses = retainReachable(responses, reachableComponents.getResponses());
+            headers = retainReachable(headers, reachableComponents.getHeaders());
+        }
+
+        appendComponentsSchemasSection(definitionsSection, componentSectionId, schemas);
         if (null != parameters && !parameters.isEmpty()) {
             appendSubSection(definitionsSection, componentSectionId, parametersComponent, SECTION_TITLE_PARAMETERS,
                 new ParametersComponent.Parameters(parameters));
         }
-        Map<String, ApiResponse> responses = components.getResponses();
         if (null != responses && !responses.isEmpty()) {
             appendSubSection(definitionsSection, componentSectionId, responseComponent, SECTION_TITLE_RESPONSES,
                 new ResponseComponent.Parameters(responses));
         }
-        Map<String, Header> headers = components.getHeaders();
         if (null != headers && !headers.isEmpty()) {
             appendSubSection(definitionsSection, componentSectionId, headersComponent, SECTION_TITLE_HEADERS,
                 new HeadersComponent.Parameters(headers));
@@ -1,10 +1,12 @@
 package io.github.swagger2markup.internal.document;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -20,8 +22,7 @@ import org.asciidoctor.ast.Document;
 import org.asciidoctor.ast.Section;
 import org.asciidoctor.ast.StructuralNode;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.github.swagger2markup.OpenAPI2MarkupConverter;
 import io.github.swagger2markup.adoc.ast.impl.BlockImpl;
@@ -34,6 +35,7 @@ import io.github.swagger2markup.internal.component.ExternalDocumentationComponen
 import io.github.swagger2markup.internal.component.ParametersComponent;
 import io.github.swagger2markup.internal.component.ResponseComponent;
 import io.github.swagger2markup.internal.component.SecurityRequirementTableComponent;
+import io.github.swagger2markup.internal.helper.ExampleJsonHelpers;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -237,77 +239,99 @@ public class PathsDocument extends MarkupComponent<Document, PathsDocument.Param
     }
 
     private void appendCodeBlock(StructuralNode node, Components components, Schema schema) {
-        BlockImpl codeBlock = null;
-        try {
-            codeBlock = new BlockImpl(node, "source,json", new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(generateJsonObject(0, components, schema)));
-        }
-        catch (JsonProcessingException e) {
-            e.printStackTrace();
-        }
-        node.append(codeBlock);
+        appendCodeBlock(node, generator -> writeJsonObject(generator, 0, components, schema, newAncestors()));
     }
 
     private void appendArrayCodeBlock(StructuralNode node, Components components, Schema schema) {
+        appendCodeBlock(node, generator -> {
+            generator.writeStartArray();
+            writeJsonObject(generator, 1, components, schema, newAncestors());
+            generator.writeEndArray();
+        });
+    }
+
+    private void appendCodeBlock(StructuralNode node, ExampleJsonHelpers.JsonExample example) {
         BlockImpl codeBlock = null;
         try {
-            codeBlock = new BlockImpl(node, "source,json", new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(List.of(generateJsonObject(1, components, schema))));
+            codeBlock = new BlockImpl(node, "source,json", ExampleJsonHelpers.pretty(example, config.getGeneratedExamplesMaxLength()));
         }
-        catch (JsonProcessingException e) {
+        catch (IOException e) {
             e.printStackTrace();
         }
         node.append(codeBlock);
     }
 
-    private Map<String, Object> generateJsonObject(int level, Components components, Schema schema) {
-        LinkedHashMap<String, Object> object = new LinkedHashMap<>();
-        if (level >= 5) {
-            return object;
-        }
+    private static Set<Schema> newAncestors() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
 
+    /**
+     * Writes an example object of {@code schema}.<br>
+     * Objects nested deeper than the configured maximum depth are replaced with a truncation marker.
+     * Without a maximum depth, a schema which is already being written by an enclosing object is replaced with a truncation marker instead.
+     */
+    private void writeJsonObject(JsonGenerator generator, int level, Components components, Schema schema, Set<Schema> ancestors) throws IOException {
+        int maxDepth = config.getGeneratedExamplesMaxDepth();
+        if (maxDepth > 0 ? level >= maxDepth : !ancestors.add(schema)) {
+            generator.writeString(ExampleJsonHelpers.TRUNCATION_MARKER);
+            return;
+        }
+        int maxProperties = config.getGeneratedExamplesMaxProperties();
+        generator.writeStartObject();
         Map<String, Schema> properties = schema.getProperties();
+        int count = 0;
         for (Map.Entry<String, Schema> property : properties.entrySet().stream().sorted(Map.Entry.comparingByKey()).collect(Collectors.toCollection(LinkedHashSet::new))) {
+            if (maxProperties > 0 && count++ >= maxProperties) {
+                generator.writeStringField(ExampleJsonHelpers.TRUNCATION_MARKER, ExampleJsonHelpers.TRUNCATION_MARKER);
+                break;
+            }
             String line = property.getKey();
             String ref = property.getValue().get$ref();
             if (!isEmpty(ref)) {
-                Map<String, Object> nested = generateJsonObject(level + 1, components, components.getSchemas().get(ref.substring(ref.lastIndexOf("/") + 1)));
-                object.put(line, nested);
+                generator.writeFieldName(line);
+                writeJsonObject(generator, level + 1, components, components.getSchemas().get(ref.substring(ref.lastIndexOf("/") + 1)), ancestors);
             }
             else if (ArraySchema.class.isAssignableFrom(property.getValue().getClass())) {
                 ArraySchema arraySchema = (ArraySchema) property.getValue();
                 ref = arraySchema.getItems().get$ref();
                 if (!isEmpty(ref)) {
-                    Map<String, Object> nested = generateJsonObject(level + 1, components, components.getSchemas().get(ref.substring(ref.lastIndexOf("/") + 1)));
-                    object.put(line, List.of(nested));
+                    generator.writeFieldName(line);
+                    generator.writeStartArray();
+                    writeJsonObject(generator, level + 1, components, components.getSchemas().get(ref.substring(ref.lastIndexOf("/") + 1)), ancestors);
+                    generator.writeEndArray();
                 }
                 else {
-                    generateExamples(object, line, property.getValue());
+                    writeExample(generator, line, property.getValue());
                 }
             }
             else {
-                generateExamples(object, line, property.getValue());
+                writeExample(generator, line, property.getValue());
             }
         }
-        return object;
+        generator.writeEndObject();
+        ancestors.remove(schema);
     }
 
-    public void generateExamples(Map<String, Object> object, String line, Schema property) {
+    private void writeExample(JsonGenerator generator, String line, Schema property) throws IOException {
         if (IntegerSchema.class.isAssignableFrom(property.getClass()) || NumberSchema.class.isAssignableFrom(property.getClass())) {
-            object.put(line, 1);
+            generator.writeNumberField(line, 1);
         }
         else if (StringSchema.class.isAssignableFrom(property.getClass())) {
-            object.put(line, "string");
+            generator.writeStringField(line, "string");
         }
         else if (DateSchema.class.isAssignableFrom(property.getClass())) {
-            object.put(line, "01-01-2023");
+            generator.writeStringField(line, "01-01-2023");
         }
         else if (DateTimeSchema.class.isAssignableFrom(property.getClass())) {
-            object.put(line, "01-01-2023T11:23:45Z");
+            generator.writeStringField(line, "01-01-2023T11:23:45Z");
         }
         else if (BooleanSchema.class.isAssignableFrom(property.getClass())) {
-            object.put(line, true);
+            generator.writeBooleanField(line, true);
         }
         else if(ArraySchema.class.isAssignableFrom(property.getClass())){
-            object.put(line, Collections.singletonList(((ArraySchema) property).getItems().getType()));
+            generator.writeArrayFieldStart(line);
+            generator.writeString(((ArraySchema) property).getItems().getType());
+            generator.writeEndArray();
         }
     }
 
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.helper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+/**
+ * Serializes generated examples into pretty printed JSON.<br>
+ * The factory is created once and shared, because it is thread-safe.
+ */
+public class ExampleJsonHelpers {
+
+    /**
+     * Replaces the parts of a generated example which exceed a budget.
+     */
+    public static final String TRUNCATION_MARKER = "...";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Writes an example token by token into pretty printed JSON, without building an object tree first.
+     *
+     * @param example writes the tokens of the example
+     * @return the pretty printed JSON
+     * @throws IOException if the example cannot be written
+     */
+    public static String pretty(JsonExample example) throws IOException {
+        return pretty(example, 0);
+    }
+
+    /**
+     * Writes an example token by token into pretty printed JSON, without building an object tree first.<br>
+     * Writing stops as soon as the JSON exceeds the maximum length, and the cut JSON ends with a truncation marker.
+     *
+     * @param example   writes the tokens of the example
+     * @param maxLength the maximum number of characters, {@code 0} disables the limit
+     * @return the pretty printed JSON
+     * @throws IOException if the example cannot be written
+     */
+    public static String pretty(JsonExample example, int maxLength) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(maxLength > 0 ? new LimitedWriter(writer, maxLength) : writer)) {
+            generator.setPrettyPrinter(new DefaultPrettyPrinter());
+            example.writeTo(generator);
+        } catch (LimitReachedException e) {
+            return writer.toString() + System.lineSeparator() + TRUNCATION_MARKER;
+        }
+        return writer.toString();
+    }
+
+    @FunctionalInterface
+    public interface JsonExample {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Passes at most a maximum number of characters to the underlying writer, and fails once more are written.
+     */
+    private static class LimitedWriter extends FilterWriter {
+        private int remaining;
+
+        LimitedWriter(Writer out, int maxLength) {
+            super(out);
+            this.remaining = maxLength;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            write(new char[]{(char) c}, 0, 1);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            out.write(cbuf, off, Math.min(len, remaining));
+            consume(len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            out.write(str, off, Math.min(len, remaining));
+            consume(len);
+        }
+
+        private void consume(int len) throws LimitReachedException {
+            if (len > remaining) {
+                remaining = 0;
+                throw new LimitReachedException();
+            }
+            remaining -= len;
+        }
+    }
+
+    private static class LimitReachedException extends IOException {
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,222 @@
+package io.github.swagger2markup.internal.helper;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.*;
+
+/**
+ * Finds the components which are referenced by the operations of an OpenAPI specification.
+ */
+public class SchemaReferenceHelpers {
+
+    /**
+     * Returns the component schemas, parameters, responses and headers which are referenced by the operations,
+     * directly or through other components.
+     * References through component parameters, request bodies, responses and headers are followed.
+     *
+     * @param openAPI the OpenAPI specification
+     * @return the names of the reachable components, in the order they are reached
+     */
+    public static ReachableComponents getReachableComponents(OpenAPI openAPI) {
+        SchemaCollector collector = new SchemaCollector(openAPI.getComponents() != null ? openAPI.getComponents() : new Components());
+        if (openAPI.getPaths() != null) {
+            openAPI.getPaths().values().forEach(collector::collect);
+        }
+        // the parser replaces references to components with the component instances
+        collector.collectVisited(collector.components.getParameters(), collector.reachableComponents.parameters);
+        collector.collectVisited(collector.components.getResponses(), collector.reachableComponents.responses);
+        collector.collectVisited(collector.components.getHeaders(), collector.reachableComponents.headers);
+        return collector.reachableComponents;
+    }
+
+    /**
+     * Keeps the entries of {@code components} whose name is contained in {@code reachableNames}, in their original order.
+     *
+     * @param components     the components by name, may be null
+     * @param reachableNames the names of the reachable components
+     * @param <T>            the component type
+     * @return the reachable components by name, or null if {@code components} is null
+     */
+    public static <T> Map<String, T> retainReachable(Map<String, T> components, Set<String> reachableNames) {
+        if (components == null) {
+            return null;
+        }
+        Map<String, T> reachableComponents = new LinkedHashMap<>();
+        components.forEach((name, component) -> {
+            if (reachableNames.contains(name)) {
+                reachableComponents.put(name, component);
+            }
+        });
+        return reachableComponents;
+    }
+
+    private static String refName(String ref) {
+        return ref.substring(ref.lastIndexOf('/') + 1);
+    }
+
+    private static <T> T resolve(String ref, Map<String, T> components, T value) {
+        return resolve(ref, components, value, null);
+    }
+
+    private static <T> T resolve(String ref, Map<String, T> components, T value, Set<String> reachableNames) {
+        if (StringUtils.isEmpty(ref)) {
+            return value;
+        }
+        String name = refName(ref);
+        if (reachableNames != null) {
+            reachableNames.add(name);
+        }
+        return components != null ? components.get(name) : null;
+    }
+
+    /**
+     * The names of the components which are reachable from the operations.
+     */
+    public static class ReachableComponents {
+        private final Set<String> schemas = new LinkedHashSet<>();
+        private final Set<String> parameters = new LinkedHashSet<>();
+        private final Set<String> responses = new LinkedHashSet<>();
+        private final Set<String> headers = new LinkedHashSet<>();
+
+        public Set<String> getSchemas() {
+            return schemas;
+        }
+
+        public Set<String> getParameters() {
+            return parameters;
+        }
+
+        public Set<String> getResponses() {
+            return responses;
+        }
+
+        public Set<String> getHeaders() {
+            return headers;
+        }
+    }
+
+    private static class SchemaCollector {
+        private final Components components;
+        private final ReachableComponents reachableComponents = new ReachableComponents();
+        private final Set<Object> visitedComponents = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        SchemaCollector(Components components) {
+            this.components = components;
+        }
+
+        <T> void collectVisited(Map<String, T> namedComponents, Set<String> reachableNames) {
+            if (namedComponents != null) {
+                namedComponents.forEach((name, component) -> {
+                    if (visitedComponents.contains(component)) {
+                        reachableNames.add(name);
+                    }
+                });
+            }
+        }
+
+        void collect(PathItem pathItem) {
+            if (pathItem.getParameters() != null) {
+                pathItem.getParameters().forEach(this::collect);
+            }
+            pathItem.readOperations().forEach(this::collect);
+        }
+
+        void collect(Operation operation) {
+            if (operation.getParameters() != null) {
+                operation.getParameters().forEach(this::collect);
+            }
+            if (operation.getRequestBody() != null) {
+                RequestBody requestBody = resolve(operation.getRequestBody().get$ref(), components.getRequestBodies(), operation.getRequestBody());
+                if (requestBody != null && visitedComponents.add(requestBody)) {
+                    collect(requestBody.getContent());
+                }
+            }
+            if (operation.getResponses() != null) {
+                operation.getResponses().values().forEach(this::collect);
+            }
+            if (operation.getCallbacks() != null) {
+                operation.getCallbacks().values().forEach(callback -> callback.values().forEach(this::collect));
+            }
+        }
+
+        void collect(Parameter parameter) {
+            parameter = resolve(parameter.get$ref(), components.getParameters(), parameter, reachableComponents.parameters);
+            if (parameter != null && visitedComponents.add(parameter)) {
+                collect(parameter.getSchema());
+                collect(parameter.getContent());
+            }
+        }
+
+        void collect(ApiResponse response) {
+            response = resolve(response.get$ref(), components.getResponses(), response, reachableComponents.responses);
+            if (response != null && visitedComponents.add(response)) {
+                collect(response.getContent());
+                if (response.getHeaders() != null) {
+                    response.getHeaders().values().forEach(this::collect);
+                }
+            }
+        }
+
+        void collect(Header header) {
+            header = resolve(header.get$ref(), components.getHeaders(), header, reachableComponents.headers);
+            if (header != null && visitedComponents.add(header)) {
+                collect(header.getSchema());
+                collect(header.getContent());
+            }
+        }
+
+        void collect(Content content) {
+            if (content != null) {
+                content.values().forEach(mediaType -> collect(mediaType.getSchema()));
+            }
+        }
+
+        @SuppressWarnings("rawtypes")
+        void collect(Schema schema) {
+            if (schema == null) {
+                return;
+            }
+            if (StringUtils.isNotEmpty(schema.get$ref())) {
+                String name = refName(schema.get$ref());
+                if (reachableComponents.schemas.add(name) && components.getSchemas() != null) {
+                    collect(components.getSchemas().get(name));
+                }
+                return;
+            }
+            if (schema.getProperties() != null) {
+                for (Object property : schema.getProperties().values()) {
+                    collect((Schema) property);
+                }
+            }
+            if (schema.getAdditionalProperties() instanceof Schema) {
+                collect((Schema) schema.getAdditionalProperties());
+            }
+            if (schema.getNot() != null) {
+                collect(schema.getNot());
+            }
+            if (schema instanceof ArraySchema) {
+                collect(((ArraySchema) schema).getItems());
+            }
+            if (schema instanceof ComposedSchema) {
+                ComposedSchema composedSchema = (ComposedSchema) schema;
+                for (List<Schema> schemas : Arrays.asList(composedSchema.getAllOf(), composedSchema.getAnyOf(), composedSchema.getOneOf())) {
+                    if (schemas != null) {
+                        schemas.forEach(this::collect);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package io.github.swagger2markup;
 
 import io.github.swagger2markup.assertions.DiffUtils;
+import io.github.swagger2markup.config.builder.OpenAPI2MarkupConfigBuilder;
 import org.apache.commons.io.FileUtils;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
@@ -25,7 +26,9 @@ import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -71,4 +74,46 @@ public class AsciidocConverterTest {
         Path expectedFilesDirectory = Paths.get(AsciidocConverterTest.class.getResource("/expected/asciidoc/to_folder").toURI());
         DiffUtils.assertThatAllFilesAreEqual(expectedFilesDirectory, outputDirectory, "testToFolder.html");
     }
+
+    @Test
+    public void testWithUnreachableDefinitionsPruning() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/open_api/unreachable_schemas.yaml").toURI());
+        OpenSchema2MarkupConfig config = new OpenAPI2MarkupConfigBuilder()
+                .withUnreachableDefinitionsPruning()
+                .build();
+
+        //When
+        String asciiDocAsString = OpenAPI2MarkupConverter.from(file).withConfig(config).build()
+                .toString();
+
+        //Then
+        assertThat(asciiDocAsString).contains("=== Pet", "=== Category", "PetResponse")
+                .doesNotContain("UnusedOrder", "unusedorder", "OrderResponse");
+    }
+
+    @Test
+    public void testToLocalizedFolders() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/open_api/unreachable_schemas.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/localized");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        OpenSchema2MarkupConfig germanConfig = new OpenAPI2MarkupConfigBuilder()
+                .withOutputLanguage(Language.DE)
+                .build();
+        OpenAPI2MarkupConverter.from(file).withConfig(germanConfig).build()
+                .toFolder(outputDirectory.resolve("expected_de"));
+
+        //When
+        Map<Language, Path> outputDirectories = new HashMap<>();
+        outputDirectories.put(Language.EN, outputDirectory.resolve("en"));
+        outputDirectories.put(Language.DE, outputDirectory.resolve("de"));
+        OpenAPI2MarkupConverter.from(file).build()
+                .toLocalizedFolders(outputDirectories);
+
+        //Then
+        assertThat(outputDirectory.resolve("en").toFile().list()).hasSize(4).containsAll(expectedFiles);
+        DiffUtils.assertThatAllFilesAreEqual(outputDirectory.resolve("expected_de"), outputDirectory.resolve("de"),
+                "testToLocalizedFolders.html");
+    }
 }
@@ -1,5 +1,6 @@
 package io.github.swagger2markup.adoc;
 
+import io.github.swagger2markup.adoc.ast.impl.StructuralNodeImpl;
 import io.github.swagger2markup.adoc.converter.internal.*;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
@@ -19,16 +20,22 @@ import java.util.stream.Stream;
 
 import static io.github.swagger2markup.adoc.converter.internal.Delimiters.*;
 
+/**
+ * Converts an AsciidoctorJ AST back into AsciiDoc.<br>
+ * The converter is stateless, so a single instance is shared by all nodes, see {@link #getSharedInstance()}.
+ */
 @ConverterFor(AsciidocConverter.NAME)
 public class AsciidocConverter extends StringConverter {
 
-    private Logger logger = LoggerFactory.getLogger(getClass());
+    private static final Logger logger = LoggerFactory.getLogger(AsciidocConverter.class);
 
     public static final String NAME = "adoc";
 
-    private final Pattern emptyLineOrStartWith = Pattern.compile("(?m)^\\s*(?:\\r?\\n)|(?m)^\\s+");
-    private final Pattern coListItemIdPattern = Pattern.compile(".*-(\\d+)");
-    private final Pattern tableColumnsStylePattern = Pattern.compile("((\\d+)\\*)?([<^>])?(\\.[<^>])?(\\d+)?([adehlmsv])?");
+    private static final Pattern EMPTY_LINE_OR_START_WITH = Pattern.compile("(?m)^\\s*(?:\\r?\\n)|(?m)^\\s+");
+    private static final Pattern CO_LIST_ITEM_ID_PATTERN = Pattern.compile(".*-(\\d+)");
+    private static final Pattern TABLE_COLUMNS_STYLE_PATTERN = Pattern.compile("((\\d+)\\*)?([<^>])?(\\.[<^>])?(\\d+)?([adehlmsv])?");
+
+    private static final AsciidocConverter SHARED_INSTANCE = new AsciidocConverter(NAME, new HashMap<>());
 
     private static final java.util.List<String> attributeToExclude = Arrays.asList(
         "localtime",
@@ -58,6 +65,16 @@ public class AsciidocConverter extends StringConverter {
         super(backend, opts);
     }
 
+    /**
+     * Returns the converter shared by all nodes.<br>
+     * The converter keeps no state between conversions, so it can convert nodes concurrently.
+     *
+     * @return the shared converter
+     */
+    public static AsciidocConverter getSharedInstance() {
+        return SHARED_INSTANCE;
+    }
+
     /**
      * Converts an {@link ContentNode} using the specified transform along
      * with additional options. If a transform is not specified, implementations
@@ -79,99 +96,153 @@ public class AsciidocConverter extends StringConverter {
      */
     @Override
     public String convert(ContentNode node, String transform, Map<Object, Object> opts) {
+        StringBuilder sb = new StringBuilder();
+        return convert(node, transform, sb) ? sb.toString() : null;
+    }
+
+    /**
+     * Converts an {@link ContentNode} and appends the result to the given builder.<br>
+     * The child blocks of the node are appended to the same builder, so that a whole document is rendered into a single
+     * buffer, without an intermediate String per node.
+     *
+     * @param node      the node to convert
+     * @param transform an optional transform, derived from {@link ContentNode#getNodeName()} if not specified
+     * @param sb        the builder to append the converted node to
+     * @return false, if the converter does not know how to convert the node
+     */
+    public boolean convert(ContentNode node, String transform, StringBuilder sb) {
         if (null == transform) {
             transform = node.getNodeName();
         }
         switch (transform) {
             case "inline_quoted":
-                return convertInlineQuoted((PhraseNode) node);
+                convertInlineQuoted((PhraseNode) node, sb);
+                break;
             case "paragraph":
-                return convertParagraph((StructuralNode) node);
+                convertParagraph((StructuralNode) node, sb);
+                break;
             case "inline_anchor":
-                return convertInlineAnchor((PhraseNode) node);
+                return convertInlineAnchor((PhraseNode) node, sb);
             case "section":
-                return convertSection((Section) node);
+                convertSection((Section) node, sb);
+                break;
             case "listing":
-                return convertListing((Block) node);
+                convertListing((Block) node, sb);
+                break;
             case "literal":
-                return convertLiteral((StructuralNode) node);
+                convertLiteral((StructuralNode) node, sb);
+                break;
             case "source,json":
-                return convertLiteral((StructuralNode) node);
+                convertLiteral((StructuralNode) node, sb);
+                break;
             case "ulist":
-                return convertUList((List) node);
+                convertUList((List) node, sb);
+                break;
             case "olist":
-                return convertOList((List) node);
+                convertOList((List) node, sb);
+                break;
             case "dlist":
-                return convertDescriptionList((DescriptionList) node);
+                convertDescriptionList((DescriptionList) node, sb);
+                break;
             case "admonition":
-                return convertAdmonition((Block) node);
+                convertAdmonition((Block) node, sb);
+                break;
             case "colist":
-                return convertCoList((List) node);
+                convertCoList((List) node, sb);
+                break;
             case "embedded":
             case "document":
-                return convertEmbedded((Document) node);
+                convertEmbedded((Document) node, sb);
+                break;
             case "example":
-                return convertExample((Block) node);
+                convertExample((Block) node, sb);
+                break;
             case "floating_title":
-                return convertFloatingTitle((StructuralNode) node);
+                convertFloatingTitle((StructuralNode) node, sb);
+                break;
             case "image":
-                return convertImage((StructuralNode) node);
+                convertImage((StructuralNode) node, sb);
+                break;
             case "inline_break":
-                return convertInlineBreak(node);
+                sb.append(convertInlineBreak(node));
+                break;
             case "inline_button":
-                return convertInlineButton(node);
+                sb.append(convertInlineButton(node));
+                break;
             case "inline_callout":
-                return convertInlineCallout(node);
+                sb.append(convertInlineCallout(node));
+                break;
             case "inline_footnote":
-                return convertInlineFootnote(node);
+                sb.append(convertInlineFootnote(node));
+                break;
             case "inline_image":
-                return convertInlineImage((PhraseNode) node);
+                sb.append(convertInlineImage((PhraseNode) node));
+                break;
             case "inline_indexterm":
-                return convertInlineIndexTerm(node);
+                sb.append(convertInlineIndexTerm(node));
+                break;
             case "inline_kbd":
-                return convertInlineKbd(node);
+                sb.append(convertInlineKbd(node));
+                break;
             case "inline_menu":
-                return convertInlineMenu(node);
+                sb.append(convertInlineMenu(node));
+                break;
             case "open":
-                return convertOpen((StructuralNode) node);
+                convertOpen((StructuralNode) node, sb);
+                break;
             case "page_break":
-                return convertPageBreak(node);
+                sb.append(convertPageBreak(node));
+                break;
             case "preamble":
-                return convertPreamble((StructuralNode) node);
+                sb.append(convertPreamble((StructuralNode) node));
+                break;
             case "quote":
-                return convertQuote((StructuralNode) node);
+                convertQuote((StructuralNode) node, sb);
+                break;
             case "sidebar":
-                return convertSidebar((StructuralNode) node);
+                convertSidebar((StructuralNode) node, sb);
+                break;
             case "stem":
-                return convertStem(node);
+                sb.append(convertStem(node));
+                break;
             case "table":
-                return convertTable((Table) node);
+                convertTable((Table) node, sb);
+                break;
             case "thematic_break":
-                return convertThematicBreak(node);
+                sb.append(convertThematicBreak(node));
+                break;
             case "verse":
-                return convertVerse((StructuralNode) node);
+                convertVerse((StructuralNode) node, sb);
+                break;
             case "video":
-                return convertVideo(node);
+                sb.append(convertVideo(node));
+                break;
             case "toc":
-                return convertToc(node);
+                sb.append(convertToc(node));
+                break;
             case "pass":
-                return convertPass(node);
+                sb.append(convertPass(node));
+                break;
             case "audio":
-                return convertAudio(node);
+                sb.append(convertAudio(node));
+                break;
             // didn't exist on html converter
             case "list":
-                return convertList((List) node);
+                sb.append(convertList((List) node));
+                break;
             case "list_item":
-                return convertListItem((ListItem) node);
+                convertListItem((ListItem) node, sb);
+                break;
             default:
                 logger.debug("Don't know how to convert transform: [" + transform + "] Node: " + node);
-                return null;
+                return false;
         }
+        return true;
     }
 
-    String convertEmbedded(Document node) {
+    private void convertEmbedded(Document node, StringBuilder sb) {
         logger.debug("convertEmbedded");
-        StringBuilder sb = new StringBuilder();
+        int from = sb.length();
         appendId(node, sb);
         if (StringUtils.isNotBlank(node.getDoctitle())) {
             sb.append(repeat(node.getLevel() + 1,DOCUMENT_TITLE)).append(' ').append(StringEscapeUtils.unescapeHtml4(node.getDoctitle())).append(LINE_SEPARATOR);
@@ -180,9 +251,8 @@ public class AsciidocConverter extends StringConverter {
         appendAuthors(sb, attributes);
         appendRevisionDetails(sb, attributes);
         appendDocumentAttributes(sb, attributes);
-        appendTrailingNewLine(sb);
-        appendChildBlocks(node, sb);
-        return sb.toString();
+        appendTrailingNewLine(sb, from);
+        appendChildBlocks(node, sb, from);
     }
 
     private void appendAuthors(StringBuilder sb, Map<String, Object> attributes) {
@@ -230,7 +300,7 @@ public class AsciidocConverter extends StringConverter {
         return (author + email).trim();
     }
 
-    private String convertInlineAnchor(PhraseNode node) {
+    private boolean convertInlineAnchor(PhraseNode node, StringBuilder sb) {
         logger.debug("convertInlineAnchor");
         String type = node.getType();
         switch (type) {
@@ -253,10 +323,16 @@ public class AsciidocConverter extends StringConverter {
                         text = node.getAttributes().get("refid").toString();
                     }
                 }
-                return node.getTarget() + ATTRIBUTES_BEGIN + text + (StringUtils.isNotBlank(attrs) ? "," + attrs : "") + ATTRIBUTES_END;
+                sb.append(node.getTarget()).append(ATTRIBUTES_BEGIN).append(text);
+                if (StringUtils.isNotBlank(attrs)) {
+                    sb.append(',').append(attrs);
+                }
+                sb.append(ATTRIBUTES_END);
+                return true;
             }
             case "ref":
-                return node.getId();
+                sb.append(node.getId());
+                return true;
             case "link": {
                 ArrayList<String> attrs = new ArrayList<>();
                 String target = node.getTarget();
@@ -277,19 +353,22 @@ public class AsciidocConverter extends StringConverter {
                 if (StringUtils.isNotBlank(title)) {
                     attrs.add("title=\"" + title + "\"");
                 }
-                return includePrefix + target + ATTRIBUTES_BEGIN + String.join(",", attrs) + ATTRIBUTES_END;
+                sb.append(includePrefix).append(target).append(ATTRIBUTES_BEGIN).append(String.join(",", attrs)).append(ATTRIBUTES_END);
+                return true;
             }
             case "bibref":
-                return node.getId() + ATTRIBUTES_BEGIN + (StringUtils.isNotBlank(node.getReftext()) ? node.getReftext() : node.getId()) + ATTRIBUTES_END;
+                sb.append(node.getId()).append(ATTRIBUTES_BEGIN)
+                    .append(StringUtils.isNotBlank(node.getReftext()) ? node.getReftext() : node.getId()).append(ATTRIBUTES_END);
+                return true;
             default:
                 logger.warn("unknown anchor type: " + node.getType());
-                return null;
+                return false;
         }
     }
 
-    private String convertAdmonition(Block node) {
+    private void convertAdmonition(Block node, StringBuilder sb) {
         logger.debug("convertAdmonition");
-        StringBuilder sb = new StringBuilder();
+        int from = sb.length();
 
         java.util.List<StructuralNode> blocks = node.getBlocks();
         if (blocks.isEmpty()) {
@@ -298,15 +377,13 @@ public class AsciidocConverter extends StringConverter {
             appendTitle(node, sb);
             sb.append(ATTRIBUTES_BEGIN).append(node.getStyle()).append(ATTRIBUTES_END)
                 .append(LINE_SEPARATOR).append(DELIMITER_EXAMPLE).append(LINE_SEPARATOR);
-            appendChildBlocks(node, sb);
+            appendChildBlocks(node, sb, from);
             sb.append(DELIMITER_EXAMPLE).append(LINE_SEPARATOR);
         }
-        return sb.toString();
     }
 
-    private String convertInlineQuoted(PhraseNode node) {
+    private void convertInlineQuoted(PhraseNode node, StringBuilder sb) {
         logger.debug("convertInlineQuoted");
-        StringBuilder sb = new StringBuilder();
         String marker = "";
         switch (node.getType()) {
             case "monospaced":
@@ -333,23 +410,21 @@ public class AsciidocConverter extends StringConverter {
                 break;
         }
         sb.append(marker).append(node.getText()).append(marker);
-        return sb.toString();
     }
 
-    private String convertFloatingTitle(StructuralNode node) {
+    private void convertFloatingTitle(StructuralNode node, StringBuilder sb) {
         logger.debug("convertFloatingTitle");
-        return ATTRIBUTES_BEGIN + "discrete" + ATTRIBUTES_END + LINE_SEPARATOR +
-            repeat(node.getLevel() + 1, TITLE) + ' ' + node.getTitle() + LINE_SEPARATOR;
+        sb.append(ATTRIBUTES_BEGIN).append("discrete").append(ATTRIBUTES_END).append(LINE_SEPARATOR)
+            .append(repeat(node.getLevel() + 1, TITLE)).append(' ').append(node.getTitle()).append(LINE_SEPARATOR);
     }
 
-    private String convertExample(Block node) {
+    private void convertExample(Block node, StringBuilder sb) {
         logger.debug("convertExample");
-        StringBuilder sb = new StringBuilder();
+        int from = sb.length();
         appendTitle(node, sb);
         sb.append(DELIMITER_EXAMPLE).append(LINE_SEPARATOR);
-        appendChildBlocks(node, sb);
+        appendChildBlocks(node, sb, from);
         sb.append(DELIMITER_EXAMPLE).append(LINE_SEPARATOR);
-        return sb.toString();
     }
 
     private String convertInlineButton(ContentNode node) {
@@ -396,9 +471,9 @@ public class AsciidocConverter extends StringConverter {
         return "convertInlineMenu";
     }
 
-    private String convertOpen(StructuralNode node) {
+    private void convertOpen(StructuralNode node, StringBuilder sb) {
         logger.debug("convertOpen");
-        StringBuilder sb = new StringBuilder();
+        int from = sb.length();
 
         switch (node.getStyle()) {
             case "abstract":
@@ -408,12 +483,11 @@ public class AsciidocConverter extends StringConverter {
                 sb.append(DELIMITER_OPEN_BLOCK).append(LINE_SEPARATOR);
         }
         sb.append(Optional.ofNullable(((Block) node).getSource()).orElse(""));
-        appendChildBlocks(node, sb);
+        appendChildBlocks(node, sb, from);
 
         if ("open".equals(node.getStyle())) {
             sb.append(DELIMITER_OPEN_BLOCK).append(LINE_SEPARATOR);
         }
-        return sb.toString();
     }
 
     private String convertPageBreak(ContentNode node) {
@@ -421,9 +495,9 @@ public class AsciidocConverter extends StringConverter {
         return DELIMITER_PAGE_BREAK + LINE_SEPARATOR;
     }
 
-    private String convertQuote(StructuralNode node) {
+    private void convertQuote(StructuralNode node, StringBuilder sb) {
         logger.debug("convertQuote");
-        StringBuilder sb = new StringBuilder();
+        int from = sb.length();
         appendTitle(node, sb);
         sb.append(ATTRIBUTES_BEGIN);
         java.util.List<String> attrs = new ArrayList<>();
@@ -436,21 +510,18 @@ public class AsciidocConverter extends StringConverter {
         java.util.List<StructuralNode> blocks = node.getBlocks();
         if (!blocks.isEmpty()) {
             sb.append("____").append(LINE_SEPARATOR);
-            appendChildBlocks(node, sb);
+            appendChildBlocks(node, sb, from);
             sb.append("____").append(LINE_SEPARATOR);
         } else {
             sb.append(((Block) node).getSource());
         }
-
-        return sb.toString();
     }
 
-    private String convertSidebar(StructuralNode node) {
+    private void convertSidebar(StructuralNode node, StringBuilder sb) {
         logger.debug("convertSidebar");
-        StringBuilder sb = new StringBuilder();
+        int from = sb.length();
         appendTitle(node, sb);
-        appendChildBlocks(node, sb);
-        return sb.toString();
+        appendChildBlocks(node, sb, from);
     }
 
     private String convertStem(ContentNode node) {
@@ -463,9 +534,9 @@ public class AsciidocConverter extends StringConverter {
         return DELIMITER_THEMATIC_BREAK + LINE_SEPARATOR;
     }
 
-    private String convertVerse(StructuralNode node) {
+    private void convertVerse(StructuralNode node, StringBuilder sb) {
         logger.debug("convertVerse");
-        StringBuilder sb = new StringBuilder();
+        int from = sb.length();
         appendTitle(node, sb);
         sb.append(ATTRIBUTES_BEGIN);
         java.util.List<String> attrs = new ArrayList<>();
@@ -476,7 +547,7 @@ public class AsciidocConverter extends StringConverter {
         appendAttributeTo(node, attrs, "citetitle");
         sb.append(String.join(",", attrs)).append(ATTRIBUTES_END).append(LINE_SEPARATOR);
         String source = ((Block) node).getSource();
-        boolean matches = emptyLineOrStartWith.matcher(source).find();
+        boolean matches = EMPTY_LINE_OR_START_WITH.matcher(source).find();
         if (matches) {
             sb.append(DELIMITER_VERSE).append(LINE_SEPARATOR);
         }
@@ -484,8 +555,7 @@ public class AsciidocConverter extends StringConverter {
         if (matches) {
             sb.append(LINE_SEPARATOR).append(DELIMITER_VERSE);
         }
-        appendTrailingNewLine(sb);
-        return sb.toString();
+        appendTrailingNewLine(sb, from);
     }
 
     private String convertVideo(ContentNode node) {
@@ -508,23 +578,22 @@ public class AsciidocConverter extends StringConverter {
         return "convertAudio";
     }
 
-    private String convertCell(Cell node) {
+    private void convertCell(Cell node, StringBuilder sb) {
         logger.debug("convertCell");
-        StringBuilder sb = new StringBuilder();
+        int from = sb.length();
         String source = node.getSource();
         if (StringUtils.isNotBlank(source)) {
             sb.append(source);
         }
         Document innerDocument = node.getInnerDocument();
         if (null != innerDocument) {
-            appendChildBlocks(innerDocument, sb, false);
+            appendChildBlocks(innerDocument, sb, from, false);
         }
-        return sb.toString().replaceAll(LINE_SEPARATOR + LINE_SEPARATOR + "+", LINE_SEPARATOR + LINE_SEPARATOR);
+        collapseEmptyLines(sb, from, LINE_SEPARATOR);
     }
 
-    private String convertRow(Row node, java.util.List<TableCellStyle> columnStyles, String delimiterTableCell) {
+    private void convertRow(Row node, java.util.List<TableCellStyle> columnStyles, String delimiterTableCell, StringBuilder sb) {
         logger.debug("convertRow");
-        StringBuilder sb = new StringBuilder();
         node.getCells().forEach(cell -> {
             boolean addNewLine = false;
             int colspan = cell.getColspan();
@@ -559,21 +628,21 @@ public class AsciidocConverter extends StringConverter {
                 addNewLine = true;
                 sb.append(style.getShortHand());
             }
-            sb.append(delimiterTableCell).append(convertCell(cell));
+            sb.append(delimiterTableCell);
+            convertCell(cell, sb);
             if (addNewLine) {
                 sb.append(LINE_SEPARATOR);
             } else {
                 sb.append(' ');
             }
         });
-        return sb.toString();
     }
 
-    private String convertTable(Table node) {
+    private void convertTable(Table node, StringBuilder sb) {
         logger.debug("convertTable");
         java.util.List<TableCellStyle> columnStyles = new ArrayList<>();
         for (String col : node.getAttribute("cols", "").toString().split(",")) {
-            Matcher matcher = tableColumnsStylePattern.matcher(col);
+            Matcher matcher = TABLE_COLUMNS_STYLE_PATTERN.matcher(col);
             if (matcher.find()) {
                 int multiplier = 1;
                 String multiplierGroup = matcher.group(2);
@@ -600,7 +669,6 @@ public class AsciidocConverter extends StringConverter {
             }
         }
 
-        StringBuilder sb = new StringBuilder();
         appendTitle(node, sb);
         sb.append(new TableNode(node).toAsciiDocContent());
         boolean innerTable = isInnerTable(node);
@@ -611,7 +679,6 @@ public class AsciidocConverter extends StringConverter {
         appendRows(node.getBody(), sb, columnStyles, cellDelimiter);
         appendRows(node.getFooter(), sb, columnStyles, cellDelimiter);
         sb.append(tableDelimiter).append(LINE_SEPARATOR);
-        return sb.toString();
     }
 
     private boolean isInnerTable(ContentNode node) {
@@ -625,34 +692,35 @@ public class AsciidocConverter extends StringConverter {
     }
 
     private void appendRows(java.util.List<Row> rows, StringBuilder sb, java.util.List<TableCellStyle> columnStyles, String delimiterTableCell) {
-        rows.forEach(row -> sb.append(convertRow(row, columnStyles, delimiterTableCell)).append(LINE_SEPARATOR));
+        rows.forEach(row -> {
+            convertRow(row, columnStyles, delimiterTableCell, sb);
+            sb.append(LINE_SEPARATOR);
+        });
     }
 
-    private String convertDescriptionList(DescriptionList node) {
+    private void convertDescriptionList(DescriptionList node, StringBuilder sb) {
         logger.debug("convertDescriptionList");
-        StringBuilder sb = new StringBuilder();
+        int from = sb.length();
 
         appendTitle(node, sb);
         String style = Optional.ofNullable(node.getStyle()).orElse("");
         switch (style) {
             case STYLE_HORIZONTAL:
                 sb.append(ATTRIBUTES_BEGIN).append(STYLE_HORIZONTAL).append(ATTRIBUTES_END).append(LINE_SEPARATOR);
-                node.getItems().forEach(item -> sb.append(convertDescriptionListEntry(item, node.getLevel(), false)));
+                node.getItems().forEach(item -> convertDescriptionListEntry(item, node.getLevel(), false, sb));
                 break;
             case STYLE_Q_AND_A:
                 sb.append(ATTRIBUTES_BEGIN).append(STYLE_Q_AND_A).append(ATTRIBUTES_END).append(LINE_SEPARATOR);
             default:
-                node.getItems().forEach(item -> sb.append(convertDescriptionListEntry(item, node.getLevel(), true)));
+                node.getItems().forEach(item -> convertDescriptionListEntry(item, node.getLevel(), true, sb));
                 break;
         }
-        appendTrailingNewLine(sb);
-
-        return sb.toString();
+        appendTrailingNewLine(sb, from);
     }
 
-    private String convertDescriptionListEntry(DescriptionListEntry node, int level, Boolean descriptionOnNewLine) {
+    private void convertDescriptionListEntry(DescriptionListEntry node, int level, Boolean descriptionOnNewLine, StringBuilder sb) {
         logger.debug("convertDescriptionListEntry");
-        StringBuilder sb = new StringBuilder();
+        int from = sb.length();
         String delimiter = repeat(level + 1, MARKER_D_LIST_ITEM);
         String entryTerms = node.getTerms().stream()
             .map(term -> Optional.ofNullable(term.getSource()).orElse(""))
@@ -667,36 +735,32 @@ public class AsciidocConverter extends StringConverter {
             if (StringUtils.isNotBlank(desc)) {
                 sb.append(desc).append(LINE_SEPARATOR);
             }
-            appendChildBlocks(description, sb);
+            appendChildBlocks(description, sb, from);
         }
-        return sb.toString();
     }
 
-    private String convertListing(Block node) {
+    private void convertListing(Block node, StringBuilder sb) {
         logger.debug("convertListing");
-        StringBuilder sb = new StringBuilder();
         appendTitle(node, sb);
         if (STYLE_SOURCE.equals(node.getStyle())) {
             sb.append(new SourceNode(node).toAsciiDocContent());
         } else {
             sb.append(new BlockListingNode(node).toAsciiDocContent());
         }
-        return sb.toString();
     }
 
-    private String convertUList(List node) {
+    private void convertUList(List node, StringBuilder sb) {
         logger.debug("convertUList");
-        StringBuilder sb = new StringBuilder();
+        int from = sb.length();
         appendStyle(node, sb);
         appendTitle(node, sb);
-        appendChildBlocks(node, sb);
-        appendTrailingNewLine(sb);
-        return sb.toString();
+        appendChildBlocks(node, sb, from);
+        appendTrailingNewLine(sb, from);
     }
 
-    private String convertOList(List node) {
+    private void convertOList(List node, StringBuilder sb) {
         logger.debug("convertOList");
-        StringBuilder sb = new StringBuilder();
+        int from = sb.length();
         java.util.List<String> attrs = new ArrayList<>();
         String start = node.getAttribute("start", "").toString();
         if (StringUtils.isNotBlank(start)) {
@@ -709,26 +773,23 @@ public class AsciidocConverter extends StringConverter {
             sb.append(ATTRIBUTES_BEGIN).append(String.join(",", attrs)).append(ATTRIBUTES_END).append(LINE_SEPARATOR);
         }
         appendTitle(node, sb);
-        appendChildBlocks(node, sb);
-        appendTrailingNewLine(sb);
-        return sb.toString();
+        appendChildBlocks(node, sb, from);
+        appendTrailingNewLine(sb, from);
     }
 
-    private String convertCoList(List node) {
+    private void convertCoList(List node, StringBuilder sb) {
         logger.debug("convertCoList");
-        StringBuilder result = new StringBuilder();
-        appendChildBlocks(node, result);
-        return result.toString();
+        appendChildBlocks(node, sb, sb.length());
     }
 
-    private String convertListItem(ListItem node) {
+    private void convertListItem(ListItem node, StringBuilder sb) {
         logger.debug("convertListItem");
-        StringBuilder sb = new StringBuilder();
+        int from = sb.length();
 
         String marker = Optional.ofNullable(node.getMarker()).orElse(repeat(node.getLevel(), MARKER_LIST_ITEM));
 
         String coids = node.getAttribute("coids", "").toString();
-        Matcher matcher = coListItemIdPattern.matcher(coids);
+        Matcher matcher = CO_LIST_ITEM_ID_PATTERN.matcher(coids);
         if (matcher.find()) {
             marker = marker.replaceAll("\\d+", matcher.group(1));
         }
@@ -746,9 +807,8 @@ public class AsciidocConverter extends StringConverter {
         }
 
         sb.append(Optional.ofNullable(node.getSource()).orElse(""));
-        appendTrailingNewLine(sb);
-        appendChildBlocks(node, sb);
-        return sb.toString();
+        appendTrailingNewLine(sb, from);
+        appendChildBlocks(node, sb, from);
     }
 
     private String convertList(List node) {
@@ -761,40 +821,36 @@ public class AsciidocConverter extends StringConverter {
         return node.getContent().toString();
     }
 
-    private String convertImage(StructuralNode node) {
+    private void convertImage(StructuralNode node, StringBuilder sb) {
         logger.debug("convertImage");
-        StringBuilder sb = new StringBuilder();
         appendTitle(node, sb);
         appendRoles(node, sb);
         sb.append(new BlockImageNode(node).toAsciiDocContent());
-        return sb.toString();
     }
 
-    private String convertLiteral(StructuralNode node) {
+    private void convertLiteral(StructuralNode node, StringBuilder sb) {
         logger.debug("convertLiteral");
-        return ATTRIBUTES_BEGIN + node.getContext() + ATTRIBUTES_END + LINE_SEPARATOR +
-            StringEscapeUtils.unescapeHtml4(node.getContent().toString()) + LINE_SEPARATOR;
+        sb.append(ATTRIBUTES_BEGIN).append(node.getContext()).append(ATTRIBUTES_END).append(LINE_SEPARATOR)
+            .append(StringEscapeUtils.unescapeHtml4(node.getContent().toString())).append(LINE_SEPARATOR);
     }
 
-    private String convertParagraph(StructuralNode node) {
+    private void convertParagraph(StructuralNode node, StringBuilder sb) {
         logger.debug("convertParagraph");
-        StringBuilder sb = new StringBuilder();
+        int from = sb.length();
         appendTitle(node, sb);
         sb.append(new ParagraphAttributes(node).toAsciiDocContent());
         appendSource((Block) node, sb);
-        appendTrailingNewLine(sb);
-        return sb.toString();
+        appendTrailingNewLine(sb, from);
     }
 
-    private String convertSection(Section node) {
+    private void convertSection(Section node, StringBuilder sb) {
         logger.debug("convertSection");
-        StringBuilder sb = new StringBuilder();
+        int from = sb.length();
         appendId(node, sb);
         sb.append(new DelimitedBlockNode(node).toAsciiDocContent()).append(StringUtils.repeat(TITLE, node.getLevel() + 1))
             .append(" ").append(StringEscapeUtils.unescapeHtml4(node.getTitle())).append(LINE_SEPARATOR);
-        appendChildBlocks(node, sb);
-        appendTrailingNewLine(sb);
-        return sb.toString();
+        appendChildBlocks(node, sb, from);
+        appendTrailingNewLine(sb, from);
     }
 
     private void append_link_constraint_attrs(ContentNode node, java.util.List<String> attrs) {
@@ -818,32 +874,94 @@ public class AsciidocConverter extends StringConverter {
         return new String(new char[count]).replace("\0", with);
     }
 
-    private void appendChildBlocks(StructuralNode parentNode, StringBuilder sb) {
-        appendChildBlocks(parentNode, sb, true);
+    private void appendChildBlocks(StructuralNode parentNode, StringBuilder sb, int parentStart) {
+        appendChildBlocks(parentNode, sb, parentStart, true);
     }
 
-    private void appendChildBlocks(StructuralNode parentNode, StringBuilder sb, boolean addTrailingLineSeparator) {
+    /**
+     * Appends the converted child blocks of a node. Child nodes of this AST are converted straight into the given
+     * builder; parentStart is the position where the output of the parent node begins.
+     */
+    private void appendChildBlocks(StructuralNode parentNode, StringBuilder sb, int parentStart, boolean addTrailingLineSeparator) {
         final boolean isParentAListItem = parentNode instanceof ListItem || parentNode instanceof DescriptionListEntry;
         parentNode.getBlocks().forEach(childNode -> {
-            String childNodeValue = childNode.convert();
-            if (StringUtils.isNotBlank(childNodeValue)) {
-                if (isParentAListItem && (sb.toString().contains("+" + LINE_SEPARATOR) || !(childNode instanceof List || childNode instanceof DescriptionList))) {
-                    sb.append('+').append(LINE_SEPARATOR);
-                }
-                sb.append(childNodeValue);
-                if (addTrailingLineSeparator && !StringUtils.endsWith(childNodeValue, LINE_SEPARATOR)) {
-                    sb.append(LINE_SEPARATOR);
+            int childStart = sb.length();
+            if (childNode instanceof StructuralNodeImpl) {
+                convert(childNode, null, sb);
+            } else {
+                String childNodeValue = childNode.convert();
+                if (null != childNodeValue) {
+                    sb.append(childNodeValue);
                 }
             }
+            if (isBlank(sb, childStart)) {
+                sb.setLength(childStart);
+                return;
+            }
+            if (isParentAListItem && (contains(sb, parentStart, childStart, "+" + LINE_SEPARATOR) || !(childNode instanceof List || childNode instanceof DescriptionList))) {
+                sb.insert(childStart, '+' + LINE_SEPARATOR);
+            }
+            if (addTrailingLineSeparator && !endsWith(sb, childStart, LINE_SEPARATOR)) {
+                sb.append(LINE_SEPARATOR);
+            }
         });
     }
 
-    private void appendTrailingNewLine(StringBuilder sb) {
-        if (!sb.toString().endsWith(LINE_SEPARATOR + LINE_SEPARATOR)) {
+    private void appendTrailingNewLine(StringBuilder sb, int from) {
+        if (!endsWith(sb, from, LINE_SEPARATOR + LINE_SEPARATOR)) {
             sb.append(LINE_SEPARATOR);
         }
     }
 
+    /**
+     * Collapses every run of more than two line separators after the given position into two, in place.
+     */
+    /**
+     * Collapses every run of empty lines after {@code from} into a single empty line.
+     */
+    static void collapseEmptyLines(StringBuilder sb, int from, String lineSeparator) {
+        String emptyLine = lineSeparator + lineSeparator;
+        int index = sb.indexOf(emptyLine, from);
+        while (index >= 0) {
+            int end = index + emptyLine.length();
+            int runEnd = end;
+            while (sb.indexOf(lineSeparator, runEnd) == runEnd) {
+                runEnd += lineSeparator.length();
+            }
+            if (runEnd > end) {
+                sb.delete(end, runEnd);
+            }
+            index = sb.indexOf(emptyLine, end);
+        }
+    }
+
+    private boolean isBlank(StringBuilder sb, int from) {
+        for (int i = from; i < sb.length(); i++) {
+            if (!Character.isWhitespace(sb.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean contains(StringBuilder sb, int from, int to, String str) {
+        int index = sb.indexOf(str, from);
+        return index >= 0 && index + str.length() <= to;
+    }
+
+    private boolean endsWith(StringBuilder sb, int from, String suffix) {
+        int start = sb.length() - suffix.length();
+        if (start < from) {
+            return false;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (sb.charAt(start + i) != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void appendId(StructuralNode node, StringBuilder sb) {
         String id = node.getId();
         if (StringUtils.isNotBlank(id)) {
@@ -16,7 +16,6 @@ public class StructuralNodeImpl extends ContentNodeImpl implements StructuralNod
     private Integer level;
     private final String contentModel;
     private List<String> subs;
-    private final AsciidocConverter converter = new AsciidocConverter(AsciidocConverter.NAME, new HashMap<>());
 
     public StructuralNodeImpl(StructuralNode parent, String context) {
         this(parent, context, new HashMap<>());
@@ -120,7 +119,7 @@ public class StructuralNodeImpl extends ContentNodeImpl implements StructuralNod
 
     @Override
     public String convert() {
-        return converter.convert(this, null, new HashMap<>());
+        return AsciidocConverter.getSharedInstance().convert(this, null, Collections.emptyMap());
     }
 
     @Override
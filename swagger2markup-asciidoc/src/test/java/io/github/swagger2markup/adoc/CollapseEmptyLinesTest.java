@@ -0,0 +1,35 @@
+package io.github.swagger2markup.adoc;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class CollapseEmptyLinesTest {
+
+    @Test
+    public void collapsesEmptyLinesWithUnixLineSeparator() {
+        StringBuilder sb = new StringBuilder("a\n\n\n\nb\n\nc\nd");
+
+        AsciidocConverter.collapseEmptyLines(sb, 0, "\n");
+
+        assertEquals("a\n\nb\n\nc\nd", sb.toString());
+    }
+
+    @Test
+    public void collapsesEmptyLinesWithWindowsLineSeparator() {
+        StringBuilder sb = new StringBuilder("a\r\n\r\n\r\n\r\nb\r\n\r\nc\r\nd");
+
+        AsciidocConverter.collapseEmptyLines(sb, 0, "\r\n");
+
+        assertEquals("a\r\n\r\nb\r\n\r\nc\r\nd", sb.toString());
+    }
+
+    @Test
+    public void keepsEmptyLinesBeforeStart() {
+        StringBuilder sb = new StringBuilder("a\n\n\nb\n\n\nc");
+
+        AsciidocConverter.collapseEmptyLines(sb, 4, "\n");
+
+        assertEquals("a\n\n\nb\n\nc", sb.toString());
+    }
+}
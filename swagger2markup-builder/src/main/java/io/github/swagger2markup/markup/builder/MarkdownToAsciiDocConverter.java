@@ -0,0 +1,37 @@
+/*
+ *
+ *  Copyright 2015 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.swagger2markup.markup.builder;
+
+/**
+ * Converts Markdown to AsciiDoc when Markdown is imported into an AsciiDoc document.<br>
+ * Implementations must be thread-safe, because one converter may be shared by the builders of concurrently rendered documents.
+ *
+ * @see MarkupDocBuilder#withMarkdownToAsciiDocConverter(MarkdownToAsciiDocConverter)
+ * @see MarkdownToAsciiDocConverters
+ */
+public interface MarkdownToAsciiDocConverter {
+
+    /**
+     * Converts Markdown to AsciiDoc.
+     *
+     * @param markdown the Markdown source to convert
+     * @return the AsciiDoc, without a trailing new line
+     */
+    String convert(String markdown);
+}
@@ -0,0 +1,54 @@
+/*
+ *
+ *  Copyright 2015 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.swagger2markup.markup.builder;
+
+import io.github.swagger2markup.markup.builder.internal.asciidoc.AsciiDocConverterExtension;
+import io.github.swagger2markup.markup.builder.internal.asciidoc.CommonMarkToAsciiDocConverter;
+
+/**
+ * The built-in {@link MarkdownToAsciiDocConverter} implementations.
+ */
+public final class MarkdownToAsciiDocConverters {
+
+    private MarkdownToAsciiDocConverters() {
+    }
+
+    /**
+     * Creates a converter which parses the complete Markdown syntax with pegdown.<br>
+     * This is the converter used by default. Parsing stops with an exception after the given timeout.
+     *
+     * @param timeoutMillis the parsing timeout
+     * @return a pegdown converter
+     */
+    public static MarkdownToAsciiDocConverter pegdown(int timeoutMillis) {
+        return markdown -> AsciiDocConverterExtension.convertMarkdownToAsciiDoc(markdown, timeoutMillis);
+    }
+
+    /**
+     * Returns a converter which parses CommonMark and GitHub Flavored Markdown tables with commonmark-java.<br>
+     * Raw HTML is kept as text and block quotes, lists, emphasis and links nested too deeply are converted to plain text.
+     * Markdown with a paragraph of more than 1000 emphasis and link delimiters is kept as text.
+     * The converter needs no timeout.
+     *
+     * @return the CommonMark converter
+     */
+    public static MarkdownToAsciiDocConverter commonMark() {
+        return CommonMarkToAsciiDocConverter.INSTANCE;
+    }
+}
@@ -19,6 +19,7 @@
 package io.github.swagger2markup.markup.builder;
 
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
@@ -553,6 +554,25 @@ public interface MarkupDocBuilder {
      */
     String getAnchorPrefix();
 
+    /**
+     * Configure this builder to leave existing files untouched when their content equals the content to write.<br>
+     * This preserves the modification time of unchanged files. Files written with {@code StandardOpenOption.APPEND} are always written.
+     *
+     * @param writeIfChanged true to only write files whose content changed
+     * @return this builder
+     */
+    MarkupDocBuilder withWriteIfChanged(boolean writeIfChanged);
+
+    /**
+     * Configure this builder to convert imported Markdown to AsciiDoc with {@code converter}.<br>
+     * The conversion only applies to AsciiDoc builders. If the converter is null, Markdown is converted with pegdown and the parsing timeout of this builder.
+     *
+     * @param converter the Markdown to AsciiDoc converter, or null for the default pegdown converter
+     * @return this builder
+     * @see MarkdownToAsciiDocConverters
+     */
+    MarkupDocBuilder withMarkdownToAsciiDocConverter(MarkdownToAsciiDocConverter converter);
+
     /**
      * Builds a new instance of this builder with a state copy.
      *
@@ -561,6 +581,42 @@ public interface MarkupDocBuilder {
      */
     MarkupDocBuilder copy(boolean copyBuffer);
 
+    /**
+     * Returns an empty scratch builder, with the state of this builder, to render an inline fragment like a table cell.<br>
+     * Unlike {@link #copy(boolean)}, the scratch builder is owned by this builder and reused: every call clears it and returns the same instance.
+     * The fragment must therefore be consumed, e.g. with {@link #toString()}, before this method is called again on this builder,
+     * and it must not be used by another thread than the one using this builder.
+     *
+     * @return the cleared scratch builder of this builder
+     */
+    MarkupDocBuilder fragment();
+
+    /**
+     * Appends the content of another builder as-is.<br>
+     * The other builder is expected to produce the same markup language, e.g. a builder created with {@link #copy(boolean)}.
+     *
+     * @param markupDocBuilder the builder whose content should be appended
+     * @return this builder
+     */
+    MarkupDocBuilder append(MarkupDocBuilder markupDocBuilder);
+
+    /**
+     * Streams the content of the builder to {@code writer} instead of retaining it in memory.<br>
+     * Content which has already been built is written first. From then on the builder only buffers a bounded amount of content,
+     * so {@link #toString()} does not return the whole document anymore. Builders created with {@link #copy(boolean)} keep their content in memory.<br>
+     * The writer is not closed by the builder.
+     *
+     * @param writer the writer the content is streamed to
+     * @return this builder
+     */
+    MarkupDocBuilder withWriter(Writer writer);
+
+    /**
+     * Writes the buffered content to the writer set with {@link #withWriter(Writer)} and flushes the writer.<br>
+     * Does nothing if the builder has no writer.
+     */
+    void flush();
+
     /**
      * Add an extension to fileName depending on markup language.
      *
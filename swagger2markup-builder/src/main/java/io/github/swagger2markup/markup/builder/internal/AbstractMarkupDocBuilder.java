@@ -18,16 +18,23 @@
  */
 package io.github.swagger2markup.markup.builder.internal;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.text.Normalizer;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -37,6 +44,7 @@ import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.github.swagger2markup.markup.builder.MarkdownToAsciiDocConverter;
 import io.github.swagger2markup.markup.builder.MarkupBlockStyle;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
@@ -61,13 +69,28 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
     protected static final String NEW_LINES = "\\r\\n|\\r|\\n";
     protected static final String WHITESPACE = " ";
     protected static final int ASCIIDOC_PEGDOWN_DEFUALT_MILLIS = 2000;
+    protected static final int WRITER_BUFFER_THRESHOLD = 8192;
+
+    private static final String ANCHOR_IGNORABLE_ASCII_CHARACTERS = " \t\n\u000B\f\r@#&(){}[]!$*%+=/:.;,?\\<>|";
+    private static final Pattern ANCHOR_REPEATING_SEPARATION_PATTERN = Pattern.compile(String.format("([%1$s])([%1$s]+)", ANCHOR_SEPARATION_CHARACTERS));
+    private static final Pattern COMBINING_DIACRITICAL_MARKS_PATTERN = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+    private static final int NORMALIZED_ANCHORS_MAX_SIZE = 10000;
+    /**
+     * Normalized anchors by markup, anchor prefix and anchor. The cache is cleared when it is full.
+     */
+    private static final Map<String, String> NORMALIZED_ANCHORS = new ConcurrentHashMap<>();
 
     protected StringBuilder documentBuilder = new StringBuilder();
+    protected Writer writer = null;
     protected String newLine;
     protected int asciidocPegdownTimeoutMillis;
     protected Logger logger = LoggerFactory.getLogger(getClass());
 
     protected String anchorPrefix = null;
+    protected boolean writeIfChanged = false;
+    protected MarkdownToAsciiDocConverter markdownToAsciiDocConverter = null;
+
+    private AbstractMarkupDocBuilder fragment = null;
 
     public AbstractMarkupDocBuilder() {
         this(System.getProperty("line.separator"), ASCIIDOC_PEGDOWN_DEFUALT_MILLIS);
@@ -95,9 +118,22 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
         return this.anchorPrefix;
     }
 
+    @Override
+    public MarkupDocBuilder withWriteIfChanged(boolean writeIfChanged) {
+        this.writeIfChanged = writeIfChanged;
+        return this;
+    }
+
+    @Override
+    public MarkupDocBuilder withMarkdownToAsciiDocConverter(MarkdownToAsciiDocConverter converter) {
+        this.markdownToAsciiDocConverter = converter;
+        return this;
+    }
+
     protected void documentTitle(Markup markup, String title) {
         Validate.notBlank(title, "title must not be blank");
         documentBuilder.append(markup).append(replaceNewLinesWithWhiteSpace(title)).append(newLine).append(newLine);
+        flushIfNeeded();
     }
 
     protected void sectionTitleLevel(Markup markup, int level, String title) {
@@ -105,6 +141,7 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
         Validate.inclusiveBetween(1, MAX_TITLE_LEVEL, level);
         documentBuilder.append(newLine);
         documentBuilder.append(StringUtils.repeat(markup.toString(), level + 1)).append(" ").append(replaceNewLinesWithWhiteSpace(title)).append(newLine);
+        flushIfNeeded();
     }
 
     protected void sectionTitleWithAnchorLevel(Markup markup, int level, String title, String anchor) {
@@ -115,6 +152,7 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
             anchor = title;
         anchor(replaceNewLinesWithWhiteSpace(anchor)).newLine();
         documentBuilder.append(StringUtils.repeat(markup.toString(), level + 1)).append(" ").append(replaceNewLinesWithWhiteSpace(title)).append(newLine);
+        flushIfNeeded();
     }
 
     @Override
@@ -246,7 +284,7 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
         if (!StringUtils.isBlank(end.toString()))
             documentBuilder.append(end).append(newLine);
         documentBuilder.append(newLine);
-
+        flushIfNeeded();
     }
 
     protected void delimitedBlockText(Markup begin, String text, Markup end) {
@@ -259,6 +297,7 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
             documentBuilder.append(end).append(newLine);
 
         documentBuilder.append(newLine);
+        flushIfNeeded();
     }
 
     protected void delimitedTextWithoutLineBreaks(Markup begin, String text, Markup end) {
@@ -335,6 +374,7 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
             unorderedListItem(markup, listEntry);
         }
         documentBuilder.append(newLine);
+        flushIfNeeded();
     }
 
     protected void unorderedListItem(Markup markup, String item) {
@@ -357,22 +397,71 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
      * - Anchor is trimmed and lower cased
      * - If the anchor still contains forbidden characters (non-ASCII, ...), replace the whole anchor with an hash (MD5).
      * - Add the anchor prefix if configured
+     * Anchors made of ASCII letters, digits and punctuations are normalized in a single pass, and all normalized anchors are cached.
      */
     protected String normalizeAnchor(Markup spaceEscape, String anchor) {
-        String normalizedAnchor = defaultString(anchorPrefix) + anchor.trim();
-        normalizedAnchor = Normalizer.normalize(normalizedAnchor, Normalizer.Form.NFD).replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+        String prefix = defaultString(anchorPrefix);
+        String key = spaceEscape + "\u0000" + prefix + "\u0000" + anchor;
+        String normalizedAnchor = NORMALIZED_ANCHORS.get(key);
+        if (normalizedAnchor == null) {
+            normalizedAnchor = normalizeSimpleAnchor(spaceEscape.toString(), prefix + anchor.trim());
+            if (normalizedAnchor == null) {
+                normalizedAnchor = normalizeAnyAnchor(spaceEscape, prefix + anchor.trim());
+            }
+            if (NORMALIZED_ANCHORS.size() >= NORMALIZED_ANCHORS_MAX_SIZE) {
+                NORMALIZED_ANCHORS.clear();
+            }
+            NORMALIZED_ANCHORS.put(key, normalizedAnchor);
+        }
+        return normalizedAnchor;
+    }
+
+    /*
+     * Single pass normalization of anchors which consist only of ASCII letters, digits, separation characters and
+     * ignorable characters, which is the case of nearly all anchors. Returns null for any other anchor.
+     */
+    private String normalizeSimpleAnchor(String spaceEscape, String anchor) {
+        if (spaceEscape.length() != 1 || ANCHOR_SEPARATION_CHARACTERS.indexOf(spaceEscape.charAt(0)) < 0)
+            return null;
+        StringBuilder sb = new StringBuilder(anchor.length());
+        for (int i = 0; i < anchor.length(); i++) {
+            char c = anchor.charAt(i);
+            if ((c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                sb.append(c);
+                continue;
+            }
+            if (ANCHOR_SEPARATION_CHARACTERS.indexOf(c) < 0) {
+                if (ANCHOR_IGNORABLE_ASCII_CHARACTERS.indexOf(c) < 0)
+                    return null;
+                c = spaceEscape.charAt(0);
+            }
+            // Leading and repeating separation characters are ignored
+            if (sb.length() > 0 && ANCHOR_SEPARATION_CHARACTERS.indexOf(sb.charAt(sb.length() - 1)) < 0)
+                sb.append(c);
+        }
+        int length = sb.length();
+        while (length > 0 && ANCHOR_SEPARATION_CHARACTERS.indexOf(sb.charAt(length - 1)) >= 0)
+            length--;
+        sb.setLength(length);
+        return validateAnchor(sb.toString().toLowerCase());
+    }
+
+    private String normalizeAnyAnchor(Markup spaceEscape, String anchor) {
+        String normalizedAnchor = Normalizer.normalize(anchor, Normalizer.Form.NFD);
+        normalizedAnchor = COMBINING_DIACRITICAL_MARKS_PATTERN.matcher(normalizedAnchor).replaceAll("");
         normalizedAnchor = ANCHOR_IGNORABLE_PATTERN.matcher(normalizedAnchor).replaceAll(spaceEscape.toString());
-        normalizedAnchor = normalizedAnchor.replaceAll(String.format("([%1$s])([%1$s]+)", ANCHOR_SEPARATION_CHARACTERS), "$1");
+        normalizedAnchor = ANCHOR_REPEATING_SEPARATION_PATTERN.matcher(normalizedAnchor).replaceAll("$1");
         normalizedAnchor = StringUtils.strip(normalizedAnchor, ANCHOR_SEPARATION_CHARACTERS);
         normalizedAnchor = normalizedAnchor.trim().toLowerCase();
+        return validateAnchor(normalizedAnchor);
+    }
 
+    private String validateAnchor(String normalizedAnchor) {
         String validAnchor = ANCHOR_UNIGNORABLE_PATTERN.matcher(normalizedAnchor).replaceAll("");
         if (validAnchor.length() != normalizedAnchor.length())
-            normalizedAnchor = DigestUtils.md5Hex(normalizedAnchor);
+            return DigestUtils.md5Hex(normalizedAnchor);
         else
-            normalizedAnchor = validAnchor;
-
-        return normalizedAnchor;
+            return validAnchor;
     }
 
 
@@ -400,6 +489,7 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
         if (forceLineBreak)
             documentBuilder.append(markup);
         documentBuilder.append(newLine);
+        flushIfNeeded();
     }
 
     @Override
@@ -420,6 +510,8 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
             return markupText;
         else {
             if (markupLanguage == MarkupLanguage.MARKDOWN && getMarkupLanguage() == MarkupLanguage.ASCIIDOC) {
+                if (markdownToAsciiDocConverter != null)
+                    return markdownToAsciiDocConverter.convert(markupText) + newLine;
                 return AsciiDocConverterExtension.convertMarkdownToAsciiDoc(markupText, asciidocPegdownTimeoutMillis) + newLine;
             } else {
                 return markupText;
@@ -459,6 +551,7 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
             documentBuilder.append(newLine);
             documentBuilder.append(convert(leveledText.toString(), markupLanguage));
             documentBuilder.append(newLine);
+            flushIfNeeded();
         }
     }
 
@@ -494,6 +587,7 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
             documentBuilder.append(newLine);
             documentBuilder.append(convert(leveledText.toString(), markupLanguage));
             documentBuilder.append(newLine);
+            flushIfNeeded();
         }
     }
 
@@ -503,6 +597,71 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
         return tableWithColumnSpecs(null, cells);
     }
 
+    @Override
+    public MarkupDocBuilder append(MarkupDocBuilder markupDocBuilder) {
+        Validate.notNull(markupDocBuilder, "markupDocBuilder must not be null");
+        if (markupDocBuilder instanceof AbstractMarkupDocBuilder) {
+            documentBuilder.append(((AbstractMarkupDocBuilder) markupDocBuilder).documentBuilder);
+        } else {
+            documentBuilder.append(markupDocBuilder.toString());
+        }
+        flushIfNeeded();
+        return this;
+    }
+
+    @Override
+    public MarkupDocBuilder fragment() {
+        if (fragment == null) {
+            fragment = (AbstractMarkupDocBuilder) copy(false);
+        } else {
+            fragment.documentBuilder.setLength(0);
+            fragment.newLine = newLine;
+            fragment.asciidocPegdownTimeoutMillis = asciidocPegdownTimeoutMillis;
+            fragment.anchorPrefix = anchorPrefix;
+            fragment.writeIfChanged = writeIfChanged;
+            fragment.markdownToAsciiDocConverter = markdownToAsciiDocConverter;
+        }
+        return fragment;
+    }
+
+    @Override
+    public MarkupDocBuilder withWriter(Writer writer) {
+        Validate.notNull(writer, "writer must not be null");
+        this.writer = writer;
+        writeBuffer();
+        return this;
+    }
+
+    @Override
+    public void flush() {
+        if (writer != null) {
+            writeBuffer();
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to write document", e);
+            }
+        }
+    }
+
+    /**
+     * Writes the buffered content to the writer once it exceeds {@link #WRITER_BUFFER_THRESHOLD}, so that a streaming builder
+     * never retains more than a few blocks of the document.
+     */
+    protected void flushIfNeeded() {
+        if (writer != null && documentBuilder.length() >= WRITER_BUFFER_THRESHOLD)
+            writeBuffer();
+    }
+
+    private void writeBuffer() {
+        try {
+            writer.append(documentBuilder);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write document", e);
+        }
+        documentBuilder.setLength(0);
+    }
+
     @Override
     public String toString() {
         return documentBuilder.toString();
@@ -518,6 +677,8 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
      */
     @Override
     public void writeToFileWithoutExtension(Path file, Charset charset, OpenOption... options) {
+        Validate.validState(writer == null, "the content of a streaming builder has already been written to its writer");
+
         // Support relative file names both of "filename" and "./filename"
         if (file.getParent() != null) {
             try {
@@ -526,7 +687,21 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
                 throw new RuntimeException("Failed create directory", e);
             }
         }
-        
+
+        if (writeIfChanged && !Arrays.asList(options).contains(StandardOpenOption.APPEND)) {
+            String content = toString() + newLine + newLine;
+            try {
+                if (hasContent(file, content.getBytes(charset))) {
+                    if (logger.isInfoEnabled()) {
+                        logger.info("Markup document unchanged: {}", file);
+                    }
+                    return;
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read file", e);
+            }
+        }
+
         try (BufferedWriter writer = Files.newBufferedWriter(file, charset, options)) {
             writer.write(toString());
             writer.write(newLine);
@@ -539,8 +714,29 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
         }
     }
 
+    /**
+     * Compares the file chunk by chunk with {@code content}, so that the file is never read completely into memory.
+     */
+    private static boolean hasContent(Path file, byte[] content) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) != content.length) {
+            return false;
+        }
+        try (InputStream fileStream = new BufferedInputStream(Files.newInputStream(file))) {
+            byte[] buffer = new byte[8192];
+            int offset = 0;
+            int read;
+            while ((read = fileStream.read(buffer)) > 0) {
+                if (offset + read > content.length || !Arrays.equals(buffer, 0, read, content, offset, offset + read)) {
+                    return false;
+                }
+                offset += read;
+            }
+            return offset == content.length;
+        }
+    }
+
     public String replaceNewLines(String content, String replacement) {
-        return content.replaceAll(NEW_LINES, Matcher.quoteReplacement(replacement));
+        return MarkupTextUtils.replaceNewLines(content, replacement);
     }
 
     public String replaceNewLines(String content) {
@@ -0,0 +1,112 @@
+/*
+ *
+ *  Copyright 2015 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.swagger2markup.markup.builder.internal;
+
+/**
+ * Single-pass text normalization used by the markup builders.<br>
+ * The methods scan the text once and return the given String itself when nothing has to be replaced.
+ */
+public final class MarkupTextUtils {
+
+    private MarkupTextUtils() {
+    }
+
+    /**
+     * Replaces every new line (\r\n, \r or \n) of the content.
+     *
+     * @param content     the content
+     * @param replacement the replacement of a new line
+     * @return the content with replaced new lines
+     */
+    public static String replaceNewLines(String content, String replacement) {
+        int length = content.length();
+        int index = 0;
+        while (index < length && !isNewLine(content.charAt(index))) {
+            index++;
+        }
+        if (index == length) {
+            return content;
+        }
+        StringBuilder sb = new StringBuilder(length + replacement.length());
+        int start = 0;
+        while (index < length) {
+            char c = content.charAt(index);
+            if (isNewLine(c)) {
+                sb.append(content, start, index).append(replacement);
+                if (c == '\r' && index + 1 < length && content.charAt(index + 1) == '\n') {
+                    index++;
+                }
+                start = index + 1;
+            }
+            index++;
+        }
+        return sb.append(content, start, length).toString();
+    }
+
+    /**
+     * Replaces every new line (\r\n, \r or \n) of a table cell and escapes every cell delimiter with a backslash,
+     * including the delimiters of the new line replacement.
+     *
+     * @param cell        the cell content
+     * @param replacement the replacement of a new line
+     * @param delimiter   the cell delimiter
+     * @return the formatted cell content
+     */
+    public static String replaceNewLinesAndEscape(String cell, String replacement, char delimiter) {
+        int length = cell.length();
+        int index = 0;
+        while (index < length && !isNewLine(cell.charAt(index)) && cell.charAt(index) != delimiter) {
+            index++;
+        }
+        if (index == length) {
+            return cell;
+        }
+        StringBuilder sb = new StringBuilder(length + replacement.length() + 8).append(cell, 0, index);
+        while (index < length) {
+            char c = cell.charAt(index);
+            if (isNewLine(c)) {
+                appendEscaped(sb, replacement, delimiter);
+                if (c == '\r' && index + 1 < length && cell.charAt(index + 1) == '\n') {
+                    index++;
+                }
+            } else {
+                if (c == delimiter) {
+                    sb.append('\\');
+                }
+                sb.append(c);
+            }
+            index++;
+        }
+        return sb.toString();
+    }
+
+    private static void appendEscaped(StringBuilder sb, String text, char delimiter) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == delimiter) {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+    }
+
+    private static boolean isNewLine(char c) {
+        return c == '\n' || c == '\r';
+    }
+}
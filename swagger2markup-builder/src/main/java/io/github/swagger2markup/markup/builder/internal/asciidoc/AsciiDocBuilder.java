@@ -21,6 +21,7 @@ package io.github.swagger2markup.markup.builder.internal.asciidoc;
 import io.github.swagger2markup.markup.builder.*;
 import io.github.swagger2markup.markup.builder.internal.AbstractMarkupDocBuilder;
 import io.github.swagger2markup.markup.builder.internal.Markup;
+import io.github.swagger2markup.markup.builder.internal.MarkupTextUtils;
 import org.apache.commons.lang3.Validate;
 
 import java.io.File;
@@ -73,7 +74,7 @@ public class AsciiDocBuilder extends AbstractMarkupDocBuilder {
         if (copyBuffer)
             builder.documentBuilder = new StringBuilder(this.documentBuilder);
 
-        return builder.withAnchorPrefix(anchorPrefix);
+        return builder.withAnchorPrefix(anchorPrefix).withWriteIfChanged(writeIfChanged).withMarkdownToAsciiDocConverter(markdownToAsciiDocConverter);
     }
 
     @Override
@@ -212,8 +213,7 @@ public class AsciiDocBuilder extends AbstractMarkupDocBuilder {
     }
 
     private String formatTableCell(String cell) {
-        cell = replaceNewLines(cell.trim());
-        return cell.replace(AsciiDoc.TABLE_COLUMN_DELIMITER.toString(), "\\" + AsciiDoc.TABLE_COLUMN_DELIMITER.toString());
+        return MarkupTextUtils.replaceNewLinesAndEscape(cell.trim(), newLine, AsciiDoc.TABLE_COLUMN_DELIMITER.toString().charAt(0));
     }
 
     @Override
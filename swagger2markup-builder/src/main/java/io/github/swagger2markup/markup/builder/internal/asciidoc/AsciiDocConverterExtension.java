@@ -1,5 +1,10 @@
 package io.github.swagger2markup.markup.builder.internal.asciidoc;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
 import org.pegdown.Extensions;
 import org.pegdown.PegDownProcessor;
 import org.pegdown.ast.RootNode;
@@ -9,21 +14,55 @@ import nl.jworks.markdown_to_asciidoc.ToAsciiDocSerializer;
 
 public class AsciiDocConverterExtension extends Converter {
 
+    private static final Pattern FENCED_CODE_BLOCK_PATTERN = Pattern.compile("(?m)(?<!\n\n)(\\s*)```(\\w*\n)((?:\\1[^\n]*\n)+)\\1```");
+    static final int CONVERTED_MARKDOWN_MAX_SIZE = 1000;
+
+    /**
+     * The processors of the current thread by parsing timeout. Creating a processor is expensive, but a processor must not be shared between threads.
+     */
+    static final ThreadLocal<Map<Long, PegDownProcessor>> PROCESSORS = ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * Converted asciidoc by markdown source. The cache is cleared when it is full.
+     */
+    static final Map<String, String> CONVERTED_MARKDOWN = new ConcurrentHashMap<>();
+
     /**
-     * Converts markdown to asciidoc.
+     * Converts markdown to asciidoc.<br>
+     * The same markdown is converted only once, as long as it stays in the bounded result cache.
      *
      * @param markdown the markdown source to convert
      * @param timeoutMills parsing timeout
      * @return asciidoc format
      */
     public static String convertMarkdownToAsciiDoc(String markdown, long timeoutMills) {
-        PegDownProcessor processor = new PegDownProcessor(Extensions.ALL, timeoutMills);
+        String asciiDoc = CONVERTED_MARKDOWN.get(markdown);
+        if (asciiDoc == null) {
+            asciiDoc = toAsciiDoc(markdown, timeoutMills);
+            if (CONVERTED_MARKDOWN.size() >= CONVERTED_MARKDOWN_MAX_SIZE) {
+                CONVERTED_MARKDOWN.clear();
+            }
+            CONVERTED_MARKDOWN.put(markdown, asciiDoc);
+        }
+        return asciiDoc;
+    }
+
+    private static String toAsciiDoc(String markdown, long timeoutMills) {
+        String source = markdown;
         // insert blank line before fenced code block if necessary
-        if (markdown.contains("```")) {
-            markdown = markdown.replaceAll("(?m)(?<!\n\n)(\\s*)```(\\w*\n)((?:\\1[^\n]*\n)+)\\1```", "\n$1```$2$3$1```");
+        if (source.contains("```")) {
+            source = FENCED_CODE_BLOCK_PATTERN.matcher(source).replaceAll("\n$1```$2$3$1```");
+        }
+        Map<Long, PegDownProcessor> processors = PROCESSORS.get();
+        PegDownProcessor processor = processors.computeIfAbsent(timeoutMills, timeout -> new PegDownProcessor(Extensions.ALL, timeout));
+        RootNode rootNode;
+        try {
+            rootNode = processor.parseMarkdown(source.toCharArray());
+        } catch (RuntimeException e) {
+            // the state of the processor is unknown after a parsing timeout
+            processors.remove(timeoutMills);
+            throw e;
         }
-        char[] markDown = markdown.toCharArray();
-        RootNode rootNode = processor.parseMarkdown(markDown);
-        return new ToAsciiDocSerializer(rootNode, markdown).toAsciiDoc();
+        return new ToAsciiDocSerializer(rootNode, source).toAsciiDoc();
     }
 }
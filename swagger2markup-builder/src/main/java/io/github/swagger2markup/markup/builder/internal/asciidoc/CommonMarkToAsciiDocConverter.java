@@ -0,0 +1,393 @@
+/*
+ *
+ *  Copyright 2015 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.swagger2markup.markup.builder.internal.asciidoc;
+
+import io.github.swagger2markup.markup.builder.MarkdownToAsciiDocConverter;
+import io.github.swagger2markup.markup.builder.internal.MarkupTextUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.commonmark.ext.gfm.tables.TableBlock;
+import org.commonmark.ext.gfm.tables.TableHead;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.node.*;
+import org.commonmark.parser.Parser;
+
+import java.util.Collections;
+
+/**
+ * Converts CommonMark and GitHub Flavored Markdown tables to AsciiDoc with commonmark-java.<br>
+ * The Markdown is parsed into a commonmark-java node tree, which is rendered to AsciiDoc by a visitor.
+ * Nodes nested deeper than {@link #MAX_NESTING_DEPTH} are rendered as plain text without recursion.<br>
+ * commonmark-java opens nested blocks without recursion, but merges the text of nested inline nodes recursively.
+ * Markdown with a paragraph of more than {@link #MAX_INLINE_DELIMITERS} emphasis and link delimiters is therefore kept
+ * as text without parsing, so that the stack depth of the conversion is bounded, whatever the input.
+ */
+public final class CommonMarkToAsciiDocConverter implements MarkdownToAsciiDocConverter {
+
+    public static final CommonMarkToAsciiDocConverter INSTANCE = new CommonMarkToAsciiDocConverter();
+
+    /**
+     * The maximum nesting of block quotes, lists, emphasis and links which is rendered as AsciiDoc markup.
+     */
+    static final int MAX_NESTING_DEPTH = 32;
+
+    /**
+     * The maximum number of emphasis and link delimiters of a paragraph, which bounds the inline nesting depth.
+     */
+    static final int MAX_INLINE_DELIMITERS = 1000;
+
+    private static final String LISTING = "----";
+    private static final String QUOTE = "____";
+    private static final String THEMATIC_BREAK = "'''";
+
+    // A parser can be used by several threads
+    private final Parser parser = Parser.builder()
+            .extensions(Collections.singletonList(TablesExtension.create()))
+            .build();
+
+    private CommonMarkToAsciiDocConverter() {
+    }
+
+    @Override
+    public String convert(String markdown) {
+        if (hasTooManyInlineDelimiters(markdown)) {
+            return markdown;
+        }
+        AsciiDocVisitor visitor = new AsciiDocVisitor();
+        parser.parse(markdown).accept(visitor);
+        return visitor.sb.toString();
+    }
+
+    /**
+     * Counts the emphasis and link delimiters of each paragraph. A paragraph never spans a blank line, so the delimiters
+     * are counted between blank lines, which gives an upper bound for every paragraph, heading and table cell.
+     */
+    static boolean hasTooManyInlineDelimiters(String markdown) {
+        int delimiters = 0;
+        boolean blankLine = true;
+        int length = markdown.length();
+        for (int i = 0; i < length; i++) {
+            char c = markdown.charAt(i);
+            if (c == '\n' || (c == '\r' && (i + 1 == length || markdown.charAt(i + 1) != '\n'))) {
+                if (blankLine) {
+                    delimiters = 0;
+                }
+                blankLine = true;
+            } else if (c == '*' || c == '_' || c == '[') {
+                blankLine = false;
+                if (++delimiters > MAX_INLINE_DELIMITERS) {
+                    return true;
+                }
+            } else if (!Character.isWhitespace(c)) {
+                blankLine = false;
+            }
+        }
+        return false;
+    }
+
+    private static final class AsciiDocVisitor extends AbstractVisitor {
+
+        private StringBuilder sb = new StringBuilder();
+        private int depth;
+        private int listLevel;
+        private int quoteLevel;
+
+        @Override
+        public void visit(Heading heading) {
+            separate(heading);
+            sb.append(StringUtils.repeat(AsciiDoc.TITLE.toString(), heading.getLevel())).append(' ');
+            visitChildren(heading);
+        }
+
+        @Override
+        public void visit(Paragraph paragraph) {
+            separate(paragraph);
+            visitChildren(paragraph);
+        }
+
+        @Override
+        public void visit(ThematicBreak thematicBreak) {
+            separate(thematicBreak);
+            sb.append(THEMATIC_BREAK);
+        }
+
+        @Override
+        public void visit(FencedCodeBlock fencedCodeBlock) {
+            separate(fencedCodeBlock);
+            String info = fencedCodeBlock.getInfo();
+            if (StringUtils.isNotBlank(info)) {
+                sb.append("[source,").append(info.trim().split("\\s", 2)[0]).append("]\n");
+            }
+            appendListing(fencedCodeBlock.getLiteral());
+        }
+
+        @Override
+        public void visit(IndentedCodeBlock indentedCodeBlock) {
+            separate(indentedCodeBlock);
+            appendListing(indentedCodeBlock.getLiteral());
+        }
+
+        @Override
+        public void visit(HtmlBlock htmlBlock) {
+            separate(htmlBlock);
+            sb.append(StringUtils.stripEnd(htmlBlock.getLiteral(), "\n"));
+        }
+
+        @Override
+        public void visit(BlockQuote blockQuote) {
+            separate(blockQuote);
+            if (depth >= MAX_NESTING_DEPTH) {
+                appendText(blockQuote);
+                return;
+            }
+            // nested quotes need delimiters of different lengths
+            String delimiter = QUOTE + StringUtils.repeat('_', quoteLevel);
+            sb.append(delimiter).append('\n');
+            int contentStart = sb.length();
+            depth++;
+            quoteLevel++;
+            visitChildren(blockQuote);
+            quoteLevel--;
+            depth--;
+            if (sb.length() > contentStart) {
+                sb.append('\n');
+            }
+            sb.append(delimiter);
+        }
+
+        @Override
+        public void visit(BulletList bulletList) {
+            visitList(bulletList);
+        }
+
+        @Override
+        public void visit(OrderedList orderedList) {
+            visitList(orderedList);
+        }
+
+        private void visitList(ListBlock list) {
+            separate(list);
+            if (depth >= MAX_NESTING_DEPTH) {
+                appendText(list);
+                return;
+            }
+            depth++;
+            listLevel++;
+            visitChildren(list);
+            listLevel--;
+            depth--;
+        }
+
+        @Override
+        public void visit(ListItem listItem) {
+            separate(listItem);
+            char marker = listItem.getParent() instanceof OrderedList ? '.' : '*';
+            sb.append(StringUtils.repeat(marker, listLevel)).append(' ');
+            visitChildren(listItem);
+        }
+
+        @Override
+        public void visit(CustomBlock customBlock) {
+            if (customBlock instanceof TableBlock) {
+                separate(customBlock);
+                appendTable((TableBlock) customBlock);
+            } else {
+                super.visit(customBlock);
+            }
+        }
+
+        @Override
+        public void visit(LinkReferenceDefinition linkReferenceDefinition) {
+            // the links using the definition carry its destination
+        }
+
+        @Override
+        public void visit(Text text) {
+            sb.append(text.getLiteral());
+        }
+
+        @Override
+        public void visit(Code code) {
+            sb.append(AsciiDoc.LITERAL).append(code.getLiteral()).append(AsciiDoc.LITERAL);
+        }
+
+        @Override
+        public void visit(Emphasis emphasis) {
+            appendFormatted(emphasis, AsciiDoc.ITALIC);
+        }
+
+        @Override
+        public void visit(StrongEmphasis strongEmphasis) {
+            appendFormatted(strongEmphasis, AsciiDoc.BOLD);
+        }
+
+        @Override
+        public void visit(Link link) {
+            String destination = link.getDestination();
+            if (hasUrlScheme(destination) && isAutolink(link)) {
+                sb.append(destination);
+                return;
+            }
+            if (destination.startsWith("#")) {
+                sb.append(AsciiDoc.CROSS_REFERENCE_START).append(destination, 1, destination.length()).append(',');
+                appendNested(link);
+                sb.append(AsciiDoc.CROSS_REFERENCE_END);
+            } else {
+                if (!hasUrlScheme(destination)) {
+                    sb.append("link:");
+                }
+                sb.append(destination).append('[');
+                appendNested(link);
+                sb.append(']');
+            }
+        }
+
+        @Override
+        public void visit(Image image) {
+            sb.append("image:").append(image.getDestination()).append('[');
+            appendText(image);
+            sb.append(']');
+        }
+
+        @Override
+        public void visit(SoftLineBreak softLineBreak) {
+            sb.append('\n');
+        }
+
+        @Override
+        public void visit(HardLineBreak hardLineBreak) {
+            sb.append(AsciiDoc.LINE_BREAK).append('\n');
+        }
+
+        @Override
+        public void visit(HtmlInline htmlInline) {
+            sb.append(htmlInline.getLiteral());
+        }
+
+        /**
+         * Appends the separator between a block and its previous sibling. The first block of a list item or a block quote
+         * follows the list marker or the quote delimiter, and further blocks of a list item are attached with a list continuation.
+         */
+        private void separate(Node block) {
+            Node parent = block.getParent();
+            Node previous = block.getPrevious();
+            while (previous instanceof LinkReferenceDefinition) {
+                previous = previous.getPrevious();
+            }
+            if (previous == null && (parent instanceof ListItem || parent instanceof ListBlock || parent instanceof BlockQuote)) {
+                return;
+            }
+            if (parent instanceof ListBlock) {
+                sb.append('\n');
+            } else if (parent instanceof ListItem) {
+                sb.append(block instanceof ListBlock ? "\n" : "\n+\n");
+            } else if (sb.length() > 0) {
+                sb.append("\n\n");
+            }
+        }
+
+        private void appendListing(String literal) {
+            sb.append(LISTING).append('\n').append(literal);
+            if (!literal.isEmpty() && !literal.endsWith("\n")) {
+                sb.append('\n');
+            }
+            sb.append(LISTING);
+        }
+
+        private void appendFormatted(Node node, AsciiDoc markup) {
+            sb.append(markup);
+            appendNested(node);
+            sb.append(markup);
+        }
+
+        private void appendNested(Node node) {
+            if (depth >= MAX_NESTING_DEPTH) {
+                appendText(node);
+                return;
+            }
+            depth++;
+            visitChildren(node);
+            depth--;
+        }
+
+        private void appendTable(TableBlock table) {
+            if (table.getFirstChild() instanceof TableHead) {
+                sb.append("[options=\"header\"]\n");
+            }
+            sb.append(AsciiDoc.TABLE).append('\n');
+            StringBuilder tableBuilder = sb;
+            for (Node section = table.getFirstChild(); section != null; section = section.getNext()) {
+                for (Node row = section.getFirstChild(); row != null; row = row.getNext()) {
+                    for (Node cell = row.getFirstChild(); cell != null; cell = cell.getNext()) {
+                        sb = new StringBuilder();
+                        appendNested(cell);
+                        String text = sb.toString();
+                        sb = tableBuilder;
+                        sb.append(AsciiDoc.TABLE_COLUMN_DELIMITER).append(MarkupTextUtils.replaceNewLinesAndEscape(text, " ", '|'));
+                    }
+                    sb.append('\n');
+                }
+            }
+            sb.append(AsciiDoc.TABLE);
+        }
+
+        /**
+         * Appends the text of all descendants of a node. The node tree is walked in a loop instead of recursively,
+         * so that nodes of any nesting depth can be appended.
+         */
+        private void appendText(Node node) {
+            int start = sb.length();
+            Node current = node.getFirstChild();
+            while (current != null) {
+                if (current instanceof Block && sb.length() > start && sb.charAt(sb.length() - 1) != '\n') {
+                    sb.append('\n');
+                }
+                if (current instanceof Text) {
+                    sb.append(((Text) current).getLiteral());
+                } else if (current instanceof Code) {
+                    sb.append(((Code) current).getLiteral());
+                } else if (current instanceof FencedCodeBlock) {
+                    sb.append(((FencedCodeBlock) current).getLiteral());
+                } else if (current instanceof IndentedCodeBlock) {
+                    sb.append(((IndentedCodeBlock) current).getLiteral());
+                } else if (current instanceof SoftLineBreak || current instanceof HardLineBreak) {
+                    sb.append('\n');
+                }
+                if (current.getFirstChild() != null) {
+                    current = current.getFirstChild();
+                } else {
+                    while (current != node && current.getNext() == null) {
+                        current = current.getParent();
+                    }
+                    current = current == node ? null : current.getNext();
+                }
+            }
+        }
+
+        private static boolean isAutolink(Link link) {
+            Node text = link.getFirstChild();
+            return text instanceof Text && text.getNext() == null
+                    && ((Text) text).getLiteral().equals(link.getDestination());
+        }
+
+        private static boolean hasUrlScheme(String url) {
+            return url.startsWith("http://") || url.startsWith("https://") || url.startsWith("ftp://")
+                    || url.startsWith("irc://") || url.startsWith("mailto:");
+        }
+    }
+}
@@ -29,7 +29,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static org.apache.commons.lang3.StringUtils.*;
@@ -38,7 +37,6 @@ public final class ConfluenceMarkupBuilder extends AbstractMarkupDocBuilder {
 
     private static final Pattern TITLE_PATTERN = Pattern.compile("^h([0-9])\\.\\s+(.*)$");
     private static final String TITLE_FORMAT = "h%d. %s";
-    private static final Pattern ESCAPE_CELL_PIPE_PATTERN = Pattern.compile("((\\[.*?(?<!\\\\)\\])|(.))");
 
     /**
      * Associate macro name to block style.<br>
@@ -81,7 +79,7 @@ public final class ConfluenceMarkupBuilder extends AbstractMarkupDocBuilder {
         if (copyBuffer)
             builder.documentBuilder = new StringBuilder(this.documentBuilder);
 
-        return builder.withAnchorPrefix(anchorPrefix);
+        return builder.withAnchorPrefix(anchorPrefix).withWriteIfChanged(writeIfChanged).withMarkdownToAsciiDocConverter(markdownToAsciiDocConverter);
     }
 
     @Override
@@ -280,21 +278,51 @@ public final class ConfluenceMarkupBuilder extends AbstractMarkupDocBuilder {
         return escapeCellPipes(cell);
     }
 
+    /**
+     * Escapes the cell delimiters of a cell, except inside links like [text|target].
+     */
     private String escapeCellPipes(String cell) {
-        Matcher m = ESCAPE_CELL_PIPE_PATTERN.matcher(cell);
-
-        StringBuffer res = new StringBuffer();
-        while (m.find()) {
-            String repl = m.group(1);
-            if (repl.equals(ConfluenceMarkup.TABLE_COLUMN_DELIMITER.toString()))
-                repl = "\\" + ConfluenceMarkup.TABLE_COLUMN_DELIMITER.toString();
-            m.appendReplacement(res, Matcher.quoteReplacement(repl));
+        char delimiter = ConfluenceMarkup.TABLE_COLUMN_DELIMITER.toString().charAt(0);
+        if (cell.indexOf(delimiter) < 0) {
+            return cell;
+        }
+        StringBuilder res = new StringBuilder(cell.length() + 8);
+        int length = cell.length();
+        int index = 0;
+        while (index < length) {
+            char c = cell.charAt(index);
+            if (c == '[') {
+                int linkEnd = indexOfLinkEnd(cell, index + 1);
+                if (linkEnd >= 0) {
+                    res.append(cell, index, linkEnd + 1);
+                    index = linkEnd + 1;
+                    continue;
+                }
+            } else if (c == delimiter) {
+                res.append('\\');
+            }
+            res.append(c);
+            index++;
         }
-        m.appendTail(res);
-
         return res.toString();
     }
 
+    /**
+     * Returns the index of the first unescaped ']' on the same line, or -1.
+     */
+    private int indexOfLinkEnd(String cell, int from) {
+        for (int i = from; i < cell.length(); i++) {
+            char c = cell.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return -1;
+            }
+            if (c == ']' && cell.charAt(i - 1) != '\\') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     private String normalizeAnchor(String anchor) {
         return normalizeAnchor(ConfluenceMarkup.SPACE_ESCAPE, anchor);
     }
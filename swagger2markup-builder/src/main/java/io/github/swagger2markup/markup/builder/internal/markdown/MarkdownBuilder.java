@@ -21,6 +21,7 @@ package io.github.swagger2markup.markup.builder.internal.markdown;
 import io.github.swagger2markup.markup.builder.*;
 import io.github.swagger2markup.markup.builder.internal.AbstractMarkupDocBuilder;
 import io.github.swagger2markup.markup.builder.internal.Markup;
+import io.github.swagger2markup.markup.builder.internal.MarkupTextUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
@@ -69,7 +70,7 @@ public class MarkdownBuilder extends AbstractMarkupDocBuilder {
         if (copyBuffer)
             builder.documentBuilder = new StringBuilder(this.documentBuilder);
 
-        return builder.withAnchorPrefix(anchorPrefix);
+        return builder.withAnchorPrefix(anchorPrefix).withWriteIfChanged(writeIfChanged).withMarkdownToAsciiDocConverter(markdownToAsciiDocConverter);
     }
 
     @Override
@@ -206,8 +207,7 @@ public class MarkdownBuilder extends AbstractMarkupDocBuilder {
     }
 
     private String formatTableCell(String cell) {
-        cell = replaceNewLines(cell.trim(), "<br>");
-        return cell.replace(Markdown.TABLE_COLUMN_DELIMITER.toString(), "\\" + Markdown.TABLE_COLUMN_DELIMITER.toString());
+        return MarkupTextUtils.replaceNewLinesAndEscape(cell.trim(), "<br>", Markdown.TABLE_COLUMN_DELIMITER.toString().charAt(0));
     }
 
     @Override
@@ -25,6 +25,7 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
@@ -339,6 +340,37 @@ public class MarkupDocBuilderTest {
         Assert.assertEquals("Long text " + lineSeparator + " bla bla " + lineSeparator + " bla " + lineSeparator + " bla" + lineSeparator + lineSeparator, builder.toString());
     }
 
+    @Test
+    public void shouldAppendCopiedBuilder() {
+        MarkupDocBuilder builder = MarkupDocBuilders.documentBuilder(MarkupLanguage.ASCIIDOC, LineSeparator.UNIX);
+        MarkupDocBuilder fragment = builder.copy(false);
+        fragment.sectionTitleLevel1("Title").paragraph("Text");
+
+        builder.textLine("Before").append(fragment).textLine("After");
+
+        Assert.assertEquals("Before\n\n== Title\nText\n\nAfter\n", builder.toString());
+    }
+
+    @Test
+    public void shouldStreamToWriter() {
+        for (MarkupLanguage markupLanguage : MarkupLanguage.values()) {
+            MarkupDocBuilder inMemoryBuilder = MarkupDocBuilders.documentBuilder(markupLanguage, LineSeparator.UNIX);
+            StringWriter writer = new StringWriter();
+            MarkupDocBuilder streamingBuilder = MarkupDocBuilders.documentBuilder(markupLanguage, LineSeparator.UNIX);
+            streamingBuilder.documentTitle("Title").withWriter(writer);
+
+            inMemoryBuilder.documentTitle("Title");
+            for (int i = 0; i < 1000; i++) {
+                inMemoryBuilder.sectionTitleLevel2("Section " + i).paragraph("Paragraph " + i);
+                streamingBuilder.sectionTitleLevel2("Section " + i).paragraph("Paragraph " + i);
+            }
+            streamingBuilder.flush();
+
+            Assert.assertEquals(inMemoryBuilder.toString(), writer.toString());
+            Assert.assertEquals("", streamingBuilder.toString());
+        }
+    }
+
     private void assertImportMarkup(String expected, String text, MarkupLanguage markupLanguage, int levelOffset) {
         MarkupDocBuilder builder = MarkupDocBuilders.documentBuilder(markupLanguage, LineSeparator.UNIX);
 
@@ -1,18 +1,24 @@
 package io.github.swagger2markup.markup.builder.internal;
 
 import io.github.swagger2markup.markup.builder.LineSeparator;
+import io.github.swagger2markup.markup.builder.MarkdownToAsciiDocConverter;
+import io.github.swagger2markup.markup.builder.MarkdownToAsciiDocConverters;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilders;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
 import io.github.swagger2markup.markup.builder.internal.asciidoc.AsciiDoc;
 import io.github.swagger2markup.markup.builder.internal.markdown.Markdown;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.io.StringReader;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 public class AbstractMarkupDocBuilderTest {
@@ -72,6 +78,92 @@ public class AbstractMarkupDocBuilderTest {
         assertNormalization(Markdown.SPACE_ESCAPE, "sub-action-html-query-value", " /sub/action.html/?query=value ");
     }
 
+    @Test
+    public void testNormalizeAnchorWithPrefix() {
+        assertNormalization(AsciiDoc.SPACE_ESCAPE, "a-b", "a-_ b");
+        assertNormalization(Markdown.SPACE_ESCAPE, "a_b", "a_- b");
+        assertNormalization(AsciiDoc.SPACE_ESCAPE, "", "_-_");
+        assertNormalization(AsciiDoc.SPACE_ESCAPE, DigestUtils.md5Hex("a'b"), "A'b");
+
+        builder.anchorPrefix = "Prefix ";
+        assertNormalization(AsciiDoc.SPACE_ESCAPE, "prefix_anchor", "anchor");
+        assertNormalization(Markdown.SPACE_ESCAPE, "prefix-anchor", "anchor");
+
+        builder.anchorPrefix = null;
+        assertNormalization(AsciiDoc.SPACE_ESCAPE, "anchor", "anchor");
+    }
+
+    @Test
+    public void testReplaceNewLines() {
+        String text = "text without new lines";
+        Assert.assertSame(text, builder.replaceNewLines(text));
+        assertEquals("", builder.replaceNewLines(""));
+        assertEquals("a\nb\nc\nd\n\n", builder.replaceNewLines("a\r\nb\rc\nd\n\r"));
+        assertEquals("a b  c", builder.replaceNewLinesWithWhiteSpace("a\r\nb\r\rc"));
+        assertEquals("a<br>b", builder.replaceNewLines("a\nb", "<br>"));
+    }
+
+    @Test
+    public void testReplaceNewLinesAndEscape() {
+        String cell = "cell without delimiter";
+        Assert.assertSame(cell, MarkupTextUtils.replaceNewLinesAndEscape(cell, "<br>", '|'));
+        assertEquals("a \\| b<br>c\\|\\|d<br>", MarkupTextUtils.replaceNewLinesAndEscape("a | b\r\nc||d\r", "<br>", '|'));
+        assertEquals("a\\|b", MarkupTextUtils.replaceNewLinesAndEscape("a\nb", "|", '|'));
+    }
+
+    @Test
+    public void testCommonMarkToAsciiDocConverter() {
+        MarkdownToAsciiDocConverter converter = MarkdownToAsciiDocConverters.commonMark();
+
+        assertEquals("= Title\n\nSome **bold**, __italic__ and `code` text with a snake_case_name and a http://swagger.io[link]",
+                converter.convert("# Title\r\n\r\nSome **bold**, *italic* and `code` text with a snake_case_name and a [link](http://swagger.io)"));
+        assertEquals("* item\n** nested <<anchor,item>>\n... deep item\n* last item\ncontinued",
+                converter.convert("- item\n  - nested [item](#anchor)\n     1. deep item\n- last item\ncontinued"));
+        assertEquals("[options=\"header\"]\n|===\n|Name|Description\n|a|one \\| two\n|b|\n|===",
+                converter.convert("| Name | Description |\n| --- | :---: |\n| a | one \\| two |\n| b |"));
+        assertEquals("[source,json]\n----\n{ \"a\": \"*b*\" }\n----\n\n____\nquote\n____",
+                converter.convert("```json\n{ \"a\": \"*b*\" }\n```\n> quote"));
+        assertEquals("unclosed **emphasis, [link](and `code",
+                converter.convert("unclosed **emphasis, [link](and `code"));
+        assertEquals("____\nquote\n\n_____\nnested quote\n_____\n____",
+                converter.convert("> quote\n>\n> > nested quote"));
+    }
+
+    @Test
+    public void testCommonMarkToAsciiDocConverterWithDeeplyNestedMarkdown() {
+        MarkdownToAsciiDocConverter converter = MarkdownToAsciiDocConverters.commonMark();
+
+        String quotes = converter.convert(StringUtils.repeat('>', 3000) + " x");
+        assertTrue(quotes.startsWith("____\n_____\n"));
+        assertTrue(quotes.contains("\nx\n"));
+        assertTrue(quotes.length() < 2000);
+
+        String lists = converter.convert(StringUtils.repeat("- ", 3000) + "x");
+        assertTrue(lists.startsWith("* ** *** "));
+        assertTrue(lists.endsWith("x"));
+
+        String emphasis = StringUtils.repeat('*', 20000) + "x" + StringUtils.repeat('*', 20000);
+        assertEquals(emphasis, converter.convert(emphasis));
+        String nestedEmphasis = StringUtils.repeat("*a ", 600) + "b" + StringUtils.repeat(" a*", 600);
+        assertEquals(nestedEmphasis, converter.convert(nestedEmphasis));
+        String images = StringUtils.repeat("![", 1001) + "x" + StringUtils.repeat("](i.png)", 1001);
+        assertEquals(images, converter.convert(images));
+
+        String paragraphs = StringUtils.repeat("**b**\r\n\r\n", 400);
+        assertTrue(converter.convert(paragraphs).startsWith("**b**\n\n**b**"));
+        String nested = StringUtils.repeat('*', 300) + "x" + StringUtils.repeat('*', 300);
+        assertTrue(converter.convert(nested).contains("**x**"));
+    }
+
+    @Test
+    public void testWithMarkdownToAsciiDocConverter() {
+        MarkupDocBuilder builder = MarkupDocBuilders.documentBuilder(MarkupLanguage.ASCIIDOC, LineSeparator.UNIX)
+                .withMarkdownToAsciiDocConverter(MarkdownToAsciiDocConverters.commonMark());
+
+        Assert.assertEquals("__italic__", builder.fragment().importMarkup(new StringReader("*italic*"), MarkupLanguage.MARKDOWN).toString().trim());
+        Assert.assertEquals("__italic__", builder.copy(false).importMarkup(new StringReader("*italic*"), MarkupLanguage.MARKDOWN).toString().trim());
+    }
+
     @Test
     public void testCopy() {
         MarkupDocBuilder builder = MarkupDocBuilders.documentBuilder(MarkupLanguage.ASCIIDOC, LineSeparator.UNIX).withAnchorPrefix("anchor-");
@@ -101,4 +193,20 @@ public class AbstractMarkupDocBuilderTest {
         Assert.assertEquals("This is text", internalCopy.documentBuilder.toString());
 
     }
+
+    @Test
+    public void testFragment() {
+        MarkupDocBuilder builder = MarkupDocBuilders.documentBuilder(MarkupLanguage.ASCIIDOC, LineSeparator.UNIX);
+        builder.text("This is text");
+
+        MarkupDocBuilder fragment = builder.fragment();
+        Assert.assertEquals("", fragment.toString());
+        Assert.assertEquals("**bold**", fragment.boldText("bold").toString());
+
+        builder.withAnchorPrefix("anchor-");
+        Assert.assertSame(fragment, builder.fragment());
+        Assert.assertEquals("", fragment.toString());
+        Assert.assertEquals("<<_anchor-ref,text>>", fragment.crossReference("ref", "text").toString());
+        Assert.assertEquals("This is text", builder.toString());
+    }
 }
\ No newline at end of file
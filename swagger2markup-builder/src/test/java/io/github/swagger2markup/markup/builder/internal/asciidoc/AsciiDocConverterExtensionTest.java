@@ -0,0 +1,66 @@
+package io.github.swagger2markup.markup.builder.internal.asciidoc;
+
+import org.junit.Test;
+import org.pegdown.PegDownProcessor;
+
+import static org.junit.Assert.*;
+
+public class AsciiDocConverterExtensionTest {
+
+    @Test
+    public void testConvertMarkdownToAsciiDoc() throws Exception {
+        String markdown = "Some **bold** text with `code`";
+        String asciiDoc = AsciiDocConverterExtension.convertMarkdownToAsciiDoc(markdown, 2000);
+        assertEquals("Some *bold* text with `code`", asciiDoc);
+        PegDownProcessor processor = AsciiDocConverterExtension.PROCESSORS.get().get(2000L);
+        assertNotNull(processor);
+
+        // a repeated description is served from the cache
+        assertEquals(asciiDoc, AsciiDocConverterExtension.CONVERTED_MARKDOWN.get(markdown));
+        assertSame(asciiDoc, AsciiDocConverterExtension.convertMarkdownToAsciiDoc(markdown, 2000));
+
+        // another description is parsed by the same processor
+        assertEquals("More *bold* text", AsciiDocConverterExtension.convertMarkdownToAsciiDoc("More **bold** text", 2000));
+        assertSame(processor, AsciiDocConverterExtension.PROCESSORS.get().get(2000L));
+
+        // another thread gets its own processor
+        String[] otherThreadAsciiDoc = new String[1];
+        PegDownProcessor[] otherThreadProcessor = new PegDownProcessor[1];
+        Thread thread = new Thread(() -> {
+            otherThreadAsciiDoc[0] = AsciiDocConverterExtension.convertMarkdownToAsciiDoc("Other **text**", 2000);
+            otherThreadProcessor[0] = AsciiDocConverterExtension.PROCESSORS.get().get(2000L);
+        });
+        thread.start();
+        thread.join();
+        assertEquals("Other *text*", otherThreadAsciiDoc[0]);
+        assertNotNull(otherThreadProcessor[0]);
+        assertNotSame(processor, otherThreadProcessor[0]);
+    }
+
+    @Test
+    public void testConvertMarkdownToAsciiDocWithParsingFailure() {
+        String markdown = "Failing **text**";
+        try {
+            // a negative timeout expires before the first parsing step
+            AsciiDocConverterExtension.convertMarkdownToAsciiDoc(markdown, -1);
+            fail("RuntimeException expected");
+        } catch (RuntimeException e) {
+            assertFalse(AsciiDocConverterExtension.CONVERTED_MARKDOWN.containsKey(markdown));
+            assertFalse(AsciiDocConverterExtension.PROCESSORS.get().containsKey(-1L));
+        }
+
+        assertEquals("Failing *text*", AsciiDocConverterExtension.convertMarkdownToAsciiDoc(markdown, 2000));
+    }
+
+    @Test
+    public void testConvertedMarkdownCacheIsBounded() {
+        for (int i = AsciiDocConverterExtension.CONVERTED_MARKDOWN.size(); i < AsciiDocConverterExtension.CONVERTED_MARKDOWN_MAX_SIZE; i++) {
+            AsciiDocConverterExtension.CONVERTED_MARKDOWN.put("Markdown " + i, "AsciiDoc " + i);
+        }
+
+        AsciiDocConverterExtension.convertMarkdownToAsciiDoc("Last **text**", 2000);
+
+        assertEquals(1, AsciiDocConverterExtension.CONVERTED_MARKDOWN.size());
+        assertTrue(AsciiDocConverterExtension.CONVERTED_MARKDOWN.containsKey("Last **text**"));
+    }
+}
@@ -75,6 +75,16 @@ public class Schema2MarkupProperties {
     public static final String LINE_SEPARATOR = PROPERTIES_PREFIX + ".lineSeparator";
     public static final String PAGE_BREAK_LOCATIONS = PROPERTIES_PREFIX + ".pageBreakLocations";
     public static final String ASCIIDOC_PEGDOWN_TIMEOUT = PROPERTIES_PREFIX + ".asciidoc.pegdown.timeoutMillis";
+    public static final String ASCIIDOC_MARKDOWN_CONVERTER = PROPERTIES_PREFIX + ".asciidoc.markdownConverter";
+    public static final String PARALLELISM = PROPERTIES_PREFIX + ".parallelism";
+    public static final String PARALLEL_OPERATIONS_ENABLED = PROPERTIES_PREFIX + ".parallelOperationsEnabled";
+    public static final String INCREMENTAL_ENABLED = PROPERTIES_PREFIX + ".incrementalEnabled";
+    public static final String WRITE_IF_CHANGED_ENABLED = PROPERTIES_PREFIX + ".writeIfChangedEnabled";
+    public static final String UNREACHABLE_DEFINITIONS_PRUNING_ENABLED = PROPERTIES_PREFIX + ".unreachableDefinitionsPruningEnabled";
+    public static final String GENERATED_EXAMPLES_MAX_DEPTH = PROPERTIES_PREFIX + ".generatedExamplesMaxDepth";
+    public static final String GENERATED_EXAMPLES_MAX_PROPERTIES = PROPERTIES_PREFIX + ".generatedExamplesMaxProperties";
+    public static final String GENERATED_EXAMPLES_MAX_ARRAY_ITEMS = PROPERTIES_PREFIX + ".generatedExamplesMaxArrayItems";
+    public static final String GENERATED_EXAMPLES_MAX_LENGTH = PROPERTIES_PREFIX + ".generatedExamplesMaxLength";
 
     /**
      * Prefix for Swagger2Markup extension properties
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+/**
+ * Watches schema files and imported markup, and converts them again whenever they change.<br>
+ * Only a changed schema file is parsed again. A change of imported markup renders all schemas again with the converters
+ * which have already been built. The converter factory is kept alive between conversions, so that it can share a warm
+ * config, labels and extension registry.<br>
+ * Conversions run sequentially on the thread which invokes {@link #run()}.
+ */
+public class Schema2MarkupWatcher implements Runnable, Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(Schema2MarkupWatcher.class);
+    private static final long DEBOUNCE_MILLIS = 100;
+
+    private final Function<Path, ? extends AbstractSchema2MarkupConverter<?>> converterFactory;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+    private final Map<Path, Path> outputPaths = new LinkedHashMap<>();
+    private final Set<Path> markupPaths = new LinkedHashSet<>();
+    private final Map<Path, AbstractSchema2MarkupConverter<?>> converters = new HashMap<>();
+
+    /**
+     * Creates a Schema2MarkupWatcher.
+     *
+     * @param converterFactory parses a schema file and builds its converter
+     */
+    public Schema2MarkupWatcher(Function<Path, ? extends AbstractSchema2MarkupConverter<?>> converterFactory) {
+        Validate.notNull(converterFactory, "converterFactory must not be null");
+        this.converterFactory = converterFactory;
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create watch service", e);
+        }
+    }
+
+    /**
+     * Watches a schema file and converts it into {@code outputPath} whenever it changes.
+     *
+     * @param schemaFile the schema file
+     * @param outputPath the output path, see {@link AbstractSchema2MarkupConverter#toPath(Path)}
+     * @return this watcher
+     */
+    public Schema2MarkupWatcher watchSchema(Path schemaFile, Path outputPath) {
+        Validate.notNull(schemaFile, "schemaFile must not be null");
+        Validate.notNull(outputPath, "outputPath must not be null");
+        Validate.isTrue(Files.isRegularFile(schemaFile), "schemaFile must be a file: %s", schemaFile);
+        Path file = schemaFile.toAbsolutePath().normalize();
+        register(file.getParent());
+        outputPaths.put(file, outputPath);
+        return this;
+    }
+
+    /**
+     * Watches imported markup, e.g. a folder of documents included by an extension. All schemas are rendered again whenever
+     * the file, or a file directly inside the folder, changes.
+     *
+     * @param markupPath the markup file or folder
+     * @return this watcher
+     */
+    public Schema2MarkupWatcher watchMarkup(Path markupPath) {
+        Validate.notNull(markupPath, "markupPath must not be null");
+        Validate.isTrue(Files.exists(markupPath), "markupPath does not exist: %s", markupPath);
+        Path path = markupPath.toAbsolutePath().normalize();
+        register(Files.isDirectory(path) ? path : path.getParent());
+        markupPaths.add(path);
+        return this;
+    }
+
+    /**
+     * Converts all schemas, then waits for changes and converts the changed schemas again until the watcher is closed
+     * or the thread is interrupted.
+     */
+    @Override
+    public void run() {
+        outputPaths.keySet().forEach(schemaFile -> convert(schemaFile, true));
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Set<Path> changedPaths = new LinkedHashSet<>();
+                collectChangedPaths(watchService.take(), changedPaths);
+                // Editors often write a file in several steps, so wait until the changes settle
+                WatchKey key;
+                while ((key = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    collectChangedPaths(key, changedPaths);
+                }
+                convert(changedPaths);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // the watcher has been closed
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private void register(Path directory) {
+        if (!watchedDirectories.containsValue(directory)) {
+            try {
+                watchedDirectories.put(directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY), directory);
+            } catch (IOException e) {
+                throw new RuntimeException(String.format("Failed to watch %s", directory), e);
+            }
+        }
+    }
+
+    private void collectChangedPaths(WatchKey key, Set<Path> changedPaths) {
+        Path directory = watchedDirectories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (directory != null && event.context() instanceof Path) {
+                changedPaths.add(directory.resolve((Path) event.context()));
+            }
+        }
+        key.reset();
+    }
+
+    private void convert(Set<Path> changedPaths) {
+        boolean markupChanged = changedPaths.stream()
+                .anyMatch(path -> markupPaths.contains(path) || markupPaths.contains(path.getParent()));
+        if (markupChanged) {
+            outputPaths.keySet().forEach(schemaFile -> convert(schemaFile, changedPaths.contains(schemaFile)));
+        } else {
+            changedPaths.stream()
+                    .filter(outputPaths::containsKey)
+                    .forEach(schemaFile -> convert(schemaFile, true));
+        }
+    }
+
+    /**
+     * Converts a schema file. Failures are logged, so that the watcher keeps running while a schema is being edited.
+     */
+    private void convert(Path schemaFile, boolean parse) {
+        long start = System.currentTimeMillis();
+        try {
+            AbstractSchema2MarkupConverter<?> converter = converters.get(schemaFile);
+            if (parse || converter == null) {
+                converter = converterFactory.apply(schemaFile);
+                converters.put(schemaFile, converter);
+            }
+            converter.toPath(outputPaths.get(schemaFile));
+            if (logger.isInfoEnabled()) {
+                logger.info("Converted {} in {} ms", schemaFile, System.currentTimeMillis() - start);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Failed to convert {}", schemaFile, e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ *
+ *  Copyright 2015 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.swagger2markup.config;
+
+public enum MarkdownConverter {
+    /**
+     * Converts the complete Markdown syntax with pegdown, within the {@code swagger2markup.asciidoc.pegdown.timeoutMillis} parsing timeout.
+     */
+    PEGDOWN,
+    /**
+     * Converts CommonMark and GitHub Flavored Markdown tables with commonmark-java, without a parsing timeout.
+     */
+    COMMONMARK
+}
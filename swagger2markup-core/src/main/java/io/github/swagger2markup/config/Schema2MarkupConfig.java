@@ -50,6 +50,38 @@ public interface Schema2MarkupConfig {
      */
     boolean isGeneratedExamplesEnabled();
 
+    /**
+     * Specifies the maximum nesting depth of objects in generated examples. Deeper objects are replaced with a truncation marker.<br>
+     * A value of {@code 0} disables the limit, recursive definitions are still replaced with a truncation marker.
+     *
+     * @return the maximum nesting depth of objects in generated examples
+     */
+    int getGeneratedExamplesMaxDepth();
+
+    /**
+     * Specifies the maximum number of properties of an object in generated examples. Further properties are replaced with a truncation marker.<br>
+     * A value of {@code 0} disables the limit.
+     *
+     * @return the maximum number of properties of an object in generated examples
+     */
+    int getGeneratedExamplesMaxProperties();
+
+    /**
+     * Specifies the maximum number of items of an array in generated examples. Further items are replaced with a truncation marker.<br>
+     * A value of {@code 0} disables the limit.
+     *
+     * @return the maximum number of items of an array in generated examples
+     */
+    int getGeneratedExamplesMaxArrayItems();
+
+    /**
+     * Specifies the maximum number of characters of a rendered generated example. Longer examples are cut and end with a truncation marker.<br>
+     * A value of {@code 0} disables the limit.
+     *
+     * @return the maximum number of characters of a rendered generated example
+     */
+    int getGeneratedExamplesMaxLength();
+
     /**
      * Prepend the hostname to all paths.
      *
@@ -310,6 +342,50 @@ public interface Schema2MarkupConfig {
      */
     int getAsciidocPegdownTimeoutMillis();
 
+    /**
+     * Specifies the converter of Markdown descriptions to AsciiDoc.
+     *
+     * @return the Markdown converter
+     */
+    MarkdownConverter getAsciidocMarkdownConverter();
+
+    /**
+     * Specifies the number of threads which may be used to render documents concurrently.<br>
+     * A value of {@code 1} renders all documents sequentially.
+     *
+     * @return the parallelism level
+     */
+    int getParallelism();
+
+    /**
+     * Render the operations of the Paths document concurrently and merge them in the configured operation ordering.
+     *
+     * @return Render the operations of the Paths document concurrently.
+     */
+    boolean isParallelOperationsEnabled();
+
+    /**
+     * Skip rendering and writing separated operation and definition files whose inputs did not change since the previous conversion.<br>
+     * The hashes of the inputs are kept in a manifest file in the output folder.
+     *
+     * @return Skip separated files whose inputs did not change.
+     */
+    boolean isIncrementalEnabled();
+
+    /**
+     * Leave existing files untouched when their content equals the rendered content, so that their modification time is preserved.
+     *
+     * @return Only write files whose content changed.
+     */
+    boolean isWriteIfChangedEnabled();
+
+    /**
+     * Render only the definitions which are referenced by the rendered operations, directly or through other definitions.
+     *
+     * @return Omit the definitions which no rendered operation references.
+     */
+    boolean isUnreachableDefinitionsPruningEnabled();
+
     /**
      * Returns format name which should be used to format request example string.
      *
@@ -85,6 +85,10 @@ public abstract class Schema2MarkupConfigBuilder<T extends Schema2MarkupConfigBu
         config.markupLanguage = schema2MarkupProperties.getRequiredMarkupLanguage(MARKUP_LANGUAGE);
         config.schemaMarkupLanguage = schema2MarkupProperties.getRequiredMarkupLanguage(SWAGGER_MARKUP_LANGUAGE);
         config.generatedExamplesEnabled = schema2MarkupProperties.getRequiredBoolean(GENERATED_EXAMPLES_ENABLED);
+        config.generatedExamplesMaxDepth = schema2MarkupProperties.getRequiredInt(GENERATED_EXAMPLES_MAX_DEPTH);
+        config.generatedExamplesMaxProperties = schema2MarkupProperties.getRequiredInt(GENERATED_EXAMPLES_MAX_PROPERTIES);
+        config.generatedExamplesMaxArrayItems = schema2MarkupProperties.getRequiredInt(GENERATED_EXAMPLES_MAX_ARRAY_ITEMS);
+        config.generatedExamplesMaxLength = schema2MarkupProperties.getRequiredInt(GENERATED_EXAMPLES_MAX_LENGTH);
         config.hostnameEnabled = schema2MarkupProperties.getRequiredBoolean(HOSTNAME_ENABLED);
         config.basePathPrefixEnabled = schema2MarkupProperties.getRequiredBoolean(BASE_PATH_PREFIX_ENABLED);
         config.separatedDefinitionsEnabled = schema2MarkupProperties.getRequiredBoolean(SEPARATED_DEFINITIONS_ENABLED);
@@ -124,6 +128,12 @@ public abstract class Schema2MarkupConfigBuilder<T extends Schema2MarkupConfigBu
         Configuration extensionsConfiguration = swagger2markupConfiguration.subset(EXTENSION_PREFIX);
         config.extensionsProperties = new Schema2MarkupProperties(extensionsConfiguration);
         config.asciidocPegdownTimeoutMillis = schema2MarkupProperties.getRequiredInt(ASCIIDOC_PEGDOWN_TIMEOUT);
+        config.asciidocMarkdownConverter = MarkdownConverter.valueOf(schema2MarkupProperties.getRequiredString(ASCIIDOC_MARKDOWN_CONVERTER));
+        config.parallelism = schema2MarkupProperties.getRequiredInt(PARALLELISM);
+        config.parallelOperationsEnabled = schema2MarkupProperties.getRequiredBoolean(PARALLEL_OPERATIONS_ENABLED);
+        config.incrementalEnabled = schema2MarkupProperties.getRequiredBoolean(INCREMENTAL_ENABLED);
+        config.writeIfChangedEnabled = schema2MarkupProperties.getRequiredBoolean(WRITE_IF_CHANGED_ENABLED);
+        config.unreachableDefinitionsPruningEnabled = schema2MarkupProperties.getRequiredBoolean(UNREACHABLE_DEFINITIONS_PRUNING_ENABLED);
     }
 
     /**
@@ -548,6 +558,18 @@ public abstract class Schema2MarkupConfigBuilder<T extends Schema2MarkupConfigBu
         return self;
     }
 
+    /**
+     * Specifies the converter of Markdown descriptions to AsciiDoc.
+     *
+     * @param markdownConverter the Markdown converter
+     * @return this builder
+     */
+    public T withAsciidocMarkdownConverter(MarkdownConverter markdownConverter) {
+        Validate.notNull(markdownConverter, "%s must not be null", "markdownConverter");
+        config.asciidocMarkdownConverter = markdownConverter;
+        return self;
+    }
+
     /**
      * Specifies the request examples format to use.
      *
@@ -633,6 +655,108 @@ public abstract class Schema2MarkupConfigBuilder<T extends Schema2MarkupConfigBu
         return self;
     }
 
+    /**
+     * Specifies the number of threads which may be used to render documents concurrently.
+     *
+     * @param parallelism the parallelism level, {@code 1} renders all documents sequentially
+     * @return this builder
+     */
+    public T withParallelism(int parallelism) {
+        Validate.isTrue(parallelism > 0, "%s must be greater than 0", "parallelism");
+        config.parallelism = parallelism;
+        return self;
+    }
+
+    /**
+     * Render the operations of the Paths document concurrently.<br>
+     * The operations are merged in the configured operation ordering, so that the output is the same as the sequential one.
+     *
+     * @return this builder
+     */
+    public T withParallelOperations() {
+        config.parallelOperationsEnabled = true;
+        return self;
+    }
+
+    /**
+     * Skip rendering and writing separated operation and definition files whose inputs did not change since the previous conversion.<br>
+     * A manifest with the hashes of the inputs is kept in the output folder.
+     *
+     * @return this builder
+     */
+    public T withIncremental() {
+        config.incrementalEnabled = true;
+        return self;
+    }
+
+    /**
+     * Leave existing files untouched when their content equals the rendered content, so that their modification time is preserved.
+     *
+     * @return this builder
+     */
+    public T withWriteIfChanged() {
+        config.writeIfChangedEnabled = true;
+        return self;
+    }
+
+    /**
+     * Render only the definitions which are referenced by the rendered operations, directly or through other definitions.
+     *
+     * @return this builder
+     */
+    public T withUnreachableDefinitionsPruning() {
+        config.unreachableDefinitionsPruningEnabled = true;
+        return self;
+    }
+
+    /**
+     * Specifies the maximum nesting depth of objects in generated examples.
+     *
+     * @param maxDepth the maximum nesting depth, {@code 0} disables the limit
+     * @return this builder
+     */
+    public T withGeneratedExamplesMaxDepth(int maxDepth) {
+        Validate.isTrue(maxDepth >= 0, "%s must not be negative", "maxDepth");
+        config.generatedExamplesMaxDepth = maxDepth;
+        return self;
+    }
+
+    /**
+     * Specifies the maximum number of properties of an object in generated examples.
+     *
+     * @param maxProperties the maximum number of properties, {@code 0} disables the limit
+     * @return this builder
+     */
+    public T withGeneratedExamplesMaxProperties(int maxProperties) {
+        Validate.isTrue(maxProperties >= 0, "%s must not be negative", "maxProperties");
+        config.generatedExamplesMaxProperties = maxProperties;
+        return self;
+    }
+
+    /**
+     * Specifies the maximum number of items of an array in generated examples.
+     *
+     * @param maxArrayItems the maximum number of items, {@code 0} disables the limit
+     * @return this builder
+     */
+    public T withGeneratedExamplesMaxArrayItems(int maxArrayItems) {
+        Validate.isTrue(maxArrayItems >= 0, "%s must not be negative", "maxArrayItems");
+        config.generatedExamplesMaxArrayItems = maxArrayItems;
+        return self;
+    }
+
+    /**
+     * Specifies the maximum number of characters of a rendered generated example.
+     *
+     * @param maxLength the maximum number of characters, {@code 0} disables the limit
+     * @return this builder
+     */
+    public T withGeneratedExamplesMaxLength(int maxLength) {
+        Validate.isTrue(maxLength >= 0, "%s must not be negative", "maxLength");
+        config.generatedExamplesMaxLength = maxLength;
+        return self;
+    }
+
     protected static CompositeConfiguration getCompositeConfiguration(Configuration configuration) {
         CompositeConfiguration compositeConfiguration = new CompositeConfiguration();
         compositeConfiguration.addConfiguration(new SystemConfiguration());
@@ -644,7 +768,7 @@ public abstract class Schema2MarkupConfigBuilder<T extends Schema2MarkupConfigBu
     /**
      * Default implementation of {@link Schema2MarkupConfig}
      */
-    public static class DefaultSchema2MarkupConfig implements Schema2MarkupConfig {
+    public static class DefaultSchema2MarkupConfig implements Schema2MarkupConfig, Cloneable {
         MarkupLanguage markupLanguage;
         MarkupLanguage schemaMarkupLanguage;
         boolean generatedExamplesEnabled;
@@ -692,6 +816,16 @@ public abstract class Schema2MarkupConfigBuilder<T extends Schema2MarkupConfigBu
         Character listDelimiter;
         boolean listDelimiterEnabled;
         int asciidocPegdownTimeoutMillis;
+        MarkdownConverter asciidocMarkdownConverter;
+        int parallelism;
+        boolean parallelOperationsEnabled;
+        boolean incrementalEnabled;
+        boolean writeIfChangedEnabled;
+        boolean unreachableDefinitionsPruningEnabled;
+        int generatedExamplesMaxDepth;
+        int generatedExamplesMaxProperties;
+        int generatedExamplesMaxArrayItems;
+        int generatedExamplesMaxLength;
 
         List<PageBreakLocations> pageBreakLocations;
 
@@ -699,6 +833,28 @@ public abstract class Schema2MarkupConfigBuilder<T extends Schema2MarkupConfigBu
 
         Schema2MarkupProperties extensionsProperties;
 
+        /**
+         * Returns a copy of this config which renders the given markup language and output language.<br>
+         * All other settings are shared with this config.
+         *
+         * @param markupLanguage the markup language of the copy
+         * @param language       the output language of the copy
+         * @return a copy of the same class as this config
+         */
+        protected DefaultSchema2MarkupConfig copyWithLanguages(MarkupLanguage markupLanguage, Language language) {
+            Validate.notNull(markupLanguage, "%s must not be null", "markupLanguage");
+            Validate.notNull(language, "%s must not be null", "language");
+            DefaultSchema2MarkupConfig copy;
+            try {
+                copy = (DefaultSchema2MarkupConfig) clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+            copy.markupLanguage = markupLanguage;
+            copy.language = language;
+            return copy;
+        }
+
         @Override
         public MarkupLanguage getMarkupLanguage() {
             return markupLanguage;
@@ -899,6 +1055,56 @@ public abstract class Schema2MarkupConfigBuilder<T extends Schema2MarkupConfigBu
             return asciidocPegdownTimeoutMillis;
         }
 
+        @Override
+        public MarkdownConverter getAsciidocMarkdownConverter() {
+            return asciidocMarkdownConverter;
+        }
+
+        @Override
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public boolean isParallelOperationsEnabled() {
+            return parallelOperationsEnabled;
+        }
+
+        @Override
+        public boolean isIncrementalEnabled() {
+            return incrementalEnabled;
+        }
+
+        @Override
+        public boolean isWriteIfChangedEnabled() {
+            return writeIfChangedEnabled;
+        }
+
+        @Override
+        public boolean isUnreachableDefinitionsPruningEnabled() {
+            return unreachableDefinitionsPruningEnabled;
+        }
+
+        @Override
+        public int getGeneratedExamplesMaxDepth() {
+            return generatedExamplesMaxDepth;
+        }
+
+        @Override
+        public int getGeneratedExamplesMaxProperties() {
+            return generatedExamplesMaxProperties;
+        }
+
+        @Override
+        public int getGeneratedExamplesMaxArrayItems() {
+            return generatedExamplesMaxArrayItems;
+        }
+
+        @Override
+        public int getGeneratedExamplesMaxLength() {
+            return generatedExamplesMaxLength;
+        }
+
         @Override
         public String getRequestExamplesFormat() {
             return requestExamplesFormat;
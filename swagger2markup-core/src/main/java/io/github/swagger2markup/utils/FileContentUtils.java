@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.swagger2markup.utils;
+
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.Arrays;
+
+public class FileContentUtils {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Checks if {@code file} exists and has exactly the given {@code content}.
+     * The file is compared chunk by chunk and is never read completely into memory.
+     *
+     * @param file    the file
+     * @param content the expected content
+     * @return true if the file has the given content
+     * @throws IOException if the file cannot be read
+     */
+    public static boolean hasContent(Path file, byte[] content) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) != content.length) {
+            return false;
+        }
+        try (InputStream fileStream = Files.newInputStream(file);
+             InputStream contentStream = new ByteArrayInputStream(content)) {
+            return contentEquals(fileStream, contentStream);
+        }
+    }
+
+    /**
+     * Checks if {@code file} exists and has exactly the same content as {@code otherFile}.
+     * The files are compared chunk by chunk and are never read completely into memory.
+     *
+     * @param file      the file
+     * @param otherFile the file with the expected content
+     * @return true if both files have the same content
+     * @throws IOException if a file cannot be read
+     */
+    public static boolean hasSameContent(Path file, Path otherFile) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) != Files.size(otherFile)) {
+            return false;
+        }
+        try (InputStream fileStream = Files.newInputStream(file);
+             InputStream otherFileStream = Files.newInputStream(otherFile)) {
+            return contentEquals(fileStream, otherFileStream);
+        }
+    }
+
+    /**
+     * Moves {@code source} to {@code target} unless {@code target} already has the same content.
+     * In that case {@code source} is deleted and {@code target} is left untouched, so that its modification time is preserved.
+     * Otherwise {@code source} takes the POSIX permissions of an existing {@code target} before the move,
+     * because a temporary file is only readable by its owner.
+     *
+     * @param source the freshly written file
+     * @param target the target file
+     * @return true if {@code target} has been replaced
+     * @throws IOException if a file cannot be read, moved or deleted
+     */
+    public static boolean moveIfChanged(Path source, Path target) throws IOException {
+        if (hasSameContent(target, source)) {
+            Files.delete(source);
+            return false;
+        }
+        if (Files.exists(target) && Files.getFileAttributeView(target, PosixFileAttributeView.class) != null) {
+            Files.setPosixFilePermissions(source, Files.getPosixFilePermissions(target));
+        }
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return true;
+    }
+
+    private static boolean contentEquals(InputStream stream, InputStream otherStream) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        byte[] otherBuffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = stream.readNBytes(buffer, 0, BUFFER_SIZE)) > 0) {
+            if (otherStream.readNBytes(otherBuffer, 0, BUFFER_SIZE) != read
+                    || !Arrays.equals(buffer, 0, read, otherBuffer, 0, read)) {
+                return false;
+            }
+        }
+        return otherStream.read() == -1;
+    }
+}
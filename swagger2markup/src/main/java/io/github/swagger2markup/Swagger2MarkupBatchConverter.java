@@ -0,0 +1,217 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.github.swagger2markup.builder.Swagger2MarkupExtensionRegistryBuilder;
+import io.github.swagger2markup.internal.utils.ConcurrentUtils;
+import io.github.swagger2markup.spi.Swagger2MarkupExtensionRegistry;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Converts many Swagger specifications in one JVM.<br>
+ * The config and the labels are created once and shared by all conversions, and the extensions are discovered only once.
+ * Every conversion gets its own extension instances, because extensions keep the global context of their conversion.
+ * The conversions run concurrently on a bounded pool.
+ */
+public class Swagger2MarkupBatchConverter {
+
+    private static final Logger logger = LoggerFactory.getLogger(Swagger2MarkupBatchConverter.class);
+
+    private final Swagger2MarkupConfig config;
+    private final SwaggerLabels labels;
+    private final Supplier<Swagger2MarkupExtensionRegistry> extensionRegistrySupplier;
+    private final int parallelism;
+
+    private Swagger2MarkupBatchConverter(Swagger2MarkupConfig config,
+                                         Supplier<Swagger2MarkupExtensionRegistry> extensionRegistrySupplier,
+                                         int parallelism) {
+        this.config = config;
+        this.labels = new SwaggerLabels(config);
+        this.extensionRegistrySupplier = extensionRegistrySupplier;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates a Swagger2MarkupBatchConverter.Builder.
+     *
+     * @return a Swagger2MarkupBatchConverter.Builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs all conversions and waits until every conversion has finished.<br>
+     * A failing conversion does not stop the other conversions. If any conversion fails, an exception listing all failures
+     * is thrown at the end.
+     *
+     * @param conversions the conversions to run
+     */
+    public void convert(List<Conversion> conversions) {
+        Validate.notNull(conversions, "conversions must not be null");
+
+        ExecutorService executor = ConcurrentUtils.newExecutor(Math.max(1, Math.min(parallelism, conversions.size())));
+        try {
+            List<Future<?>> futures = new ArrayList<>(conversions.size());
+            conversions.forEach(conversion -> futures.add(executor.submit(() -> convert(conversion))));
+
+            RuntimeException failures = null;
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    if (failures == null) {
+                        failures = new RuntimeException("Failed to convert Swagger specifications");
+                    }
+                    failures.addSuppressed(new RuntimeException(String.format("Failed to convert %s", conversions.get(i)), e.getCause()));
+                }
+            }
+            if (failures != null) {
+                throw failures;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the conversions", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Creates a watcher which converts Swagger specifications again whenever they change.<br>
+     * Its converters share the config and the labels, which stay warm between conversions.
+     * Every converter gets a registry with its own extension instances, because extensions keep the context of the specification they render.
+     *
+     * @return the watcher
+     */
+    public Schema2MarkupWatcher watcher() {
+        return new Schema2MarkupWatcher(swaggerPath -> Swagger2MarkupConverter.from(swaggerPath)
+                .withConfig(config)
+                .withExtensionRegistry(extensionRegistrySupplier)
+                .withLabels(labels)
+                .build());
+    }
+
+    private void convert(Conversion conversion) {
+        Swagger2MarkupConverter.from(conversion.swaggerUri)
+                .withConfig(config)
+                .withExtensionRegistry(extensionRegistrySupplier)
+                .withLabels(labels)
+                .build()
+                .toPath(conversion.outputPath);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Conversion finished : '{}'", conversion);
+        }
+    }
+
+    /**
+     * A Swagger specification and the output path it is converted into.
+     */
+    public static class Conversion {
+        private final URI swaggerUri;
+        private final Path outputPath;
+
+        /**
+         * Creates a Conversion.
+         *
+         * @param swaggerUri the URI of the Swagger specification
+         * @param outputPath the output path, either a directory or a file without extension, see {@link Swagger2MarkupConverter#toPath(Path)}
+         */
+        public Conversion(URI swaggerUri, Path outputPath) {
+            Validate.notNull(swaggerUri, "swaggerUri must not be null");
+            Validate.notNull(outputPath, "outputPath must not be null");
+            this.swaggerUri = swaggerUri;
+            this.outputPath = outputPath;
+        }
+
+        /**
+         * Creates a Conversion.
+         *
+         * @param swaggerPath the local Path of the Swagger specification
+         * @param outputPath  the output path, either a directory or a file without extension, see {@link Swagger2MarkupConverter#toPath(Path)}
+         */
+        public Conversion(Path swaggerPath, Path outputPath) {
+            this(swaggerPath.toAbsolutePath().toUri(), outputPath);
+        }
+
+        @Override
+        public String toString() {
+            return swaggerUri + " -> " + outputPath;
+        }
+    }
+
+    public static class Builder {
+        private Swagger2MarkupConfig config;
+        private Supplier<Swagger2MarkupExtensionRegistry> extensionRegistrySupplier;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        Builder() {
+        }
+
+        public Builder withConfig(Swagger2MarkupConfig config) {
+            Validate.notNull(config, "config must not be null");
+            this.config = config;
+            return this;
+        }
+
+        /**
+         * Uses custom extensions instead of the extensions discovered with the ServiceLoader.<br>
+         * The supplier is called once per conversion and must return a registry with new extension instances.
+         *
+         * @param extensionRegistrySupplier the registry supplier
+         * @return this builder
+         */
+        public Builder withExtensionRegistry(Supplier<Swagger2MarkupExtensionRegistry> extensionRegistrySupplier) {
+            Validate.notNull(extensionRegistrySupplier, "extensionRegistrySupplier must not be null");
+            this.extensionRegistrySupplier = extensionRegistrySupplier;
+            return this;
+        }
+
+        /**
+         * Specifies the maximum number of concurrent conversions. The default is the number of available processors.
+         *
+         * @param parallelism the maximum number of concurrent conversions
+         * @return this builder
+         */
+        public Builder withParallelism(int parallelism) {
+            Validate.isTrue(parallelism > 0, "%s must be greater than 0", "parallelism");
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public Swagger2MarkupBatchConverter build() {
+            if (config == null)
+                config = new Swagger2MarkupConfigBuilder().build();
+
+            if (extensionRegistrySupplier == null)
+                extensionRegistrySupplier = Swagger2MarkupExtensionRegistryBuilder.registrySupplier();
+
+            return new Swagger2MarkupBatchConverter(config, extensionRegistrySupplier, parallelism);
+        }
+    }
+}
@@ -18,4 +18,9 @@ package io.github.swagger2markup;
 import io.github.swagger2markup.config.builder.Schema2MarkupConfigBuilder;
 
 public class Swagger2MarkupConfig extends Schema2MarkupConfigBuilder.DefaultSchema2MarkupConfig {
+
+    @Override
+    protected Swagger2MarkupConfig copyWithLanguages(MarkupLanguage markupLanguage, Language language) {
+        return (Swagger2MarkupConfig) super.copyWithLanguages(markupLanguage, language);
+    }
 }
@@ -21,11 +21,20 @@ import io.github.swagger2markup.internal.document.DefinitionsDocument;
 import io.github.swagger2markup.internal.document.OverviewDocument;
 import io.github.swagger2markup.internal.document.PathsDocument;
 import io.github.swagger2markup.internal.document.SecurityDocument;
+import io.github.swagger2markup.internal.model.ResolvedSwagger;
+import io.github.swagger2markup.internal.utils.ConcurrentUtils;
+import io.github.swagger2markup.internal.utils.DefinitionReferenceGraph;
+import io.github.swagger2markup.internal.utils.ExampleCache;
+import io.github.swagger2markup.internal.utils.OutputManifest;
+import io.github.swagger2markup.internal.utils.TypeCache;
+import io.github.swagger2markup.config.MarkdownConverter;
 import io.github.swagger2markup.markup.builder.LineSeparator;
+import io.github.swagger2markup.markup.builder.MarkdownToAsciiDocConverter;
+import io.github.swagger2markup.markup.builder.MarkdownToAsciiDocConverters;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilders;
-import io.github.swagger2markup.markup.builder.MarkupLanguage;
 import io.github.swagger2markup.spi.Swagger2MarkupExtensionRegistry;
+import io.github.swagger2markup.utils.FileContentUtils;
 import io.github.swagger2markup.utils.URIUtils;
 import io.swagger.models.Swagger;
 import io.swagger.parser.SwaggerParser;
@@ -35,6 +44,7 @@ import org.apache.commons.lang3.Validate;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -43,7 +53,15 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 
 /**
@@ -178,39 +196,262 @@ public class Swagger2MarkupConverter extends AbstractSchema2MarkupConverter<Swag
     public void toFolder(Path outputDirectory) {
         Validate.notNull(outputDirectory, "outputDirectory must not be null");
 
+        int parallelism = swaggerContext.config.getParallelism();
+        if (parallelism > 1) {
+            ExecutorService executor = ConcurrentUtils.newExecutor(Math.min(parallelism, 4));
+            try {
+                toFolder(outputDirectory, executor);
+            } finally {
+                executor.shutdownNow();
+            }
+            return;
+        }
+
+        setOutputDirectory(outputDirectory);
+
+        writeOverviewDocument(outputDirectory);
+        writePathsDocument(outputDirectory);
+        writeDefinitionsDocument(outputDirectory);
+        writeSecurityDocument(outputDirectory);
+
+        saveOutputManifest();
+    }
+
+    /**
+     * Converts the Swagger specification into the given {@code outputDirectory}.<br>
+     * The overview, paths, definitions and security documents are rendered concurrently using the given {@code executor}
+     * and each document is written as soon as it is finished. The output is the same as the one of {@link #toFolder(Path)}.<br>
+     * The executor is not shut down by this method.
+     *
+     * @param outputDirectory the output directory path
+     * @param executor        the executor used to render the documents
+     */
+    public void toFolder(Path outputDirectory, ExecutorService executor) {
+        Validate.notNull(outputDirectory, "outputDirectory must not be null");
+        Validate.notNull(executor, "executor must not be null");
+
+        setOutputDirectory(outputDirectory);
+
+        ConcurrentUtils.invokeAll(executor, Arrays.asList(
+                () -> writeOverviewDocument(outputDirectory),
+                () -> writePathsDocument(outputDirectory),
+                () -> writeDefinitionsDocument(outputDirectory),
+                () -> writeSecurityDocument(outputDirectory)));
+
+        saveOutputManifest();
+    }
+
+    /**
+     * Converts the Swagger specification into several markup languages, each into its own output directory.<br>
+     * The Swagger specification is parsed, extended and resolved only once, and every markup language is rendered from
+     * the same model, as if {@link #toFolder(Path)} was called with a config using that markup language.
+     * If the config specifies a parallelism greater than 1, the markup languages are rendered concurrently.
+     * Every markup language gets its own extension instances, unless the converter was built with a registry instance
+     * instead of a registry supplier. Then the markup languages share the extensions and are rendered one after another.
+     *
+     * @param outputDirectories the output directory path of each markup language
+     */
+    public void toFolders(Map<MarkupLanguage, Path> outputDirectories) {
+        Validate.notEmpty(outputDirectories, "outputDirectories must not be empty");
+
+        List<Runnable> conversions = new ArrayList<>(outputDirectories.size());
+        outputDirectories.forEach((markupLanguage, outputDirectory) -> {
+            Validate.notNull(markupLanguage, "markupLanguage must not be null");
+            conversions.add(toVariantFolder(markupLanguage, swaggerContext.getLanguage(), outputDirectory));
+        });
+        convertVariants(conversions);
+    }
+
+    /**
+     * Converts the Swagger specification into several languages, each into its own output directory.<br>
+     * The Swagger specification is parsed, extended and resolved only once, and examples are generated only once.
+     * Only the labels and the number format differ between the languages, as if {@link #toFolder(Path)} was called with
+     * a config using that output language.
+     * If the config specifies a parallelism greater than 1, the languages are rendered concurrently.
+     * Every language gets its own extension instances, unless the converter was built with a registry instance
+     * instead of a registry supplier. Then the languages share the extensions and are rendered one after another.
+     *
+     * @param outputDirectories the output directory path of each language
+     */
+    public void toLocalizedFolders(Map<Language, Path> outputDirectories) {
+        Validate.notEmpty(outputDirectories, "outputDirectories must not be empty");
+
+        List<Runnable> conversions = new ArrayList<>(outputDirectories.size());
+        outputDirectories.forEach((language, outputDirectory) -> {
+            Validate.notNull(language, "language must not be null");
+            conversions.add(toVariantFolder(swaggerContext.getMarkupLanguage(), language, outputDirectory));
+        });
+        convertVariants(conversions);
+    }
+
+    private Runnable toVariantFolder(MarkupLanguage markupLanguage, Language language, Path outputDirectory) {
+        Validate.notNull(outputDirectory, "outputDirectory must not be null");
+        Swagger2MarkupConverter converter;
+        if (markupLanguage == swaggerContext.getMarkupLanguage() && language == swaggerContext.getLanguage()) {
+            converter = this;
+        } else {
+            converter = new Swagger2MarkupConverter(new SwaggerContext(swaggerContext, markupLanguage, language));
+        }
+        if (swaggerContext.extensionRegistrySupplier == null) {
+            // The variants share the extensions, which must render with the context of the current variant
+            return () -> {
+                initExtensions(converter.swaggerContext);
+                converter.toFolder(outputDirectory);
+            };
+        }
+        return () -> converter.toFolder(outputDirectory);
+    }
+
+    private void convertVariants(List<Runnable> conversions) {
+        int parallelism = swaggerContext.config.getParallelism();
+        if (swaggerContext.extensionRegistrySupplier == null) {
+            try {
+                conversions.forEach(Runnable::run);
+            } finally {
+                initExtensions(swaggerContext);
+            }
+        } else if (parallelism > 1 && conversions.size() > 1) {
+            ExecutorService executor = ConcurrentUtils.newExecutor(Math.min(parallelism, conversions.size()));
+            try {
+                ConcurrentUtils.invokeAll(executor, conversions);
+            } finally {
+                executor.shutdownNow();
+            }
+        } else {
+            conversions.forEach(Runnable::run);
+        }
+    }
+
+    private static void initExtensions(SwaggerContext context) {
+        Swagger2MarkupExtensionRegistry extensionRegistry = context.getExtensionRegistry();
+        extensionRegistry.getSwaggerModelExtensions().forEach(extension -> extension.setGlobalContext(context));
+        extensionRegistry.getOverviewDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
+        extensionRegistry.getDefinitionsDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
+        extensionRegistry.getPathsDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
+        extensionRegistry.getSecurityDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
+    }
+
+    private void setOutputDirectory(Path outputDirectory) {
         swaggerContext.setOutputPath(outputDirectory);
+        if (swaggerContext.config.isIncrementalEnabled()) {
+            swaggerContext.setOutputManifest(OutputManifest.load(outputDirectory, swaggerContext.config,
+                    swaggerContext.getMarkupLanguage(), swaggerContext.getLanguage(), swaggerContext.getSchema()));
+        } else {
+            swaggerContext.setOutputManifest(null);
+        }
+    }
 
-        applyOverviewDocument()
-                .writeToFile(outputDirectory.resolve(swaggerContext.config.getOverviewDocument()), StandardCharsets.UTF_8);
-        applyPathsDocument()
-                .writeToFile(outputDirectory.resolve(swaggerContext.config.getPathsDocument()), StandardCharsets.UTF_8);
-        applyDefinitionsDocument()
-                .writeToFile(outputDirectory.resolve(swaggerContext.config.getDefinitionsDocument()), StandardCharsets.UTF_8);
-        applySecurityDocument()
-                .writeToFile(outputDirectory.resolve(swaggerContext.config.getSecurityDocument()), StandardCharsets.UTF_8);
+    private void saveOutputManifest() {
+        if (swaggerContext.getOutputManifest() != null) {
+            swaggerContext.getOutputManifest().save();
+        }
+    }
+
+    private void writeOverviewDocument(Path outputDirectory) {
+        writeDocuments(outputDirectory.resolve(swaggerContext.config.getOverviewDocument()), true, this::applyOverviewDocument);
+    }
+
+    private void writePathsDocument(Path outputDirectory) {
+        writeDocuments(outputDirectory.resolve(swaggerContext.config.getPathsDocument()), true, this::applyPathsDocument);
+    }
+
+    private void writeDefinitionsDocument(Path outputDirectory) {
+        writeDocuments(outputDirectory.resolve(swaggerContext.config.getDefinitionsDocument()), true, this::applyDefinitionsDocument);
+    }
+
+    private void writeSecurityDocument(Path outputDirectory) {
+        writeDocuments(outputDirectory.resolve(swaggerContext.config.getSecurityDocument()), true, this::applySecurityDocument);
+    }
+
+    /**
+     * Streams the documents in order into {@code file} while they are built, so that a document is never held in memory as a whole.<br>
+     * The file is opened once and flushed after each document.
+     * 2 newLines are needed at the end of each document for file to be included without protection.
+     *
+     * @param file             the output file
+     * @param addFileExtension add an extension depending on the markup language to {@code file}
+     * @param documents        the documents to build
+     */
+    @SafeVarargs
+    private void writeDocuments(Path file, boolean addFileExtension, Function<MarkupDocBuilder, MarkupDocBuilder>... documents) {
+        if (addFileExtension) {
+            file = swaggerContext.createMarkupDocBuilder().addFileExtension(file);
+        }
+        try {
+            // Support relative file names both of "filename" and "./filename"
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            // Write an existing file to a temporary file first, so that it can be left untouched if its content did not change
+            Path outputFile = file;
+            if (swaggerContext.config.isWriteIfChangedEnabled() && Files.exists(file)) {
+                outputFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            }
+            try {
+                try (Writer writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
+                    for (Function<MarkupDocBuilder, MarkupDocBuilder> document : documents) {
+                        document.apply(swaggerContext.createMarkupDocBuilder().withWriter(writer))
+                                .newLine()
+                                .newLine()
+                                .flush();
+                    }
+                }
+                if (!outputFile.equals(file) && !FileContentUtils.moveIfChanged(outputFile, file)) {
+                    if (logger.isInfoEnabled()) {
+                        logger.info("Markup document unchanged: {}", file);
+                    }
+                    return;
+                }
+            } finally {
+                if (!outputFile.equals(file)) {
+                    Files.deleteIfExists(outputFile);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write file", e);
+        }
+        if (logger.isInfoEnabled()) {
+            logger.info("Markup document written to: {}", file);
+        }
     }
 
     private MarkupDocBuilder applyOverviewDocument() {
+        return applyOverviewDocument(swaggerContext.createMarkupDocBuilder());
+    }
+
+    private MarkupDocBuilder applyOverviewDocument(MarkupDocBuilder markupDocBuilder) {
         return overviewDocument.apply(
-                swaggerContext.createMarkupDocBuilder(),
+                markupDocBuilder,
                 OverviewDocument.parameters(swaggerContext.getSchema()));
     }
 
     private MarkupDocBuilder applyPathsDocument() {
+        return applyPathsDocument(swaggerContext.createMarkupDocBuilder());
+    }
+
+    private MarkupDocBuilder applyPathsDocument(MarkupDocBuilder markupDocBuilder) {
         return pathsDocument.apply(
-                swaggerContext.createMarkupDocBuilder(),
+                markupDocBuilder,
                 PathsDocument.parameters(swaggerContext.getSchema().getPaths()));
     }
 
     private MarkupDocBuilder applyDefinitionsDocument() {
+        return applyDefinitionsDocument(swaggerContext.createMarkupDocBuilder());
+    }
+
+    private MarkupDocBuilder applyDefinitionsDocument(MarkupDocBuilder markupDocBuilder) {
         return definitionsDocument.apply(
-                swaggerContext.createMarkupDocBuilder(),
+                markupDocBuilder,
                 DefinitionsDocument.parameters(swaggerContext.getSchema().getDefinitions()));
     }
 
     private MarkupDocBuilder applySecurityDocument() {
+        return applySecurityDocument(swaggerContext.createMarkupDocBuilder());
+    }
+
+    private MarkupDocBuilder applySecurityDocument(MarkupDocBuilder markupDocBuilder) {
         return securityDocument.apply(
-                swaggerContext.createMarkupDocBuilder(),
+                markupDocBuilder,
                 SecurityDocument.parameters(swaggerContext.getSchema().getSecurityDefinitions()));
     }
 
@@ -239,10 +480,11 @@ public class Swagger2MarkupConverter extends AbstractSchema2MarkupConverter<Swag
     public void toFile(Path outputFile) {
         Validate.notNull(outputFile, "outputFile must not be null");
 
-        applyOverviewDocument().writeToFile(outputFile, StandardCharsets.UTF_8);
-        applyPathsDocument().writeToFile(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        applyDefinitionsDocument().writeToFile(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        applySecurityDocument().writeToFile(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        writeDocuments(outputFile, true,
+                this::applyOverviewDocument,
+                this::applyPathsDocument,
+                this::applyDefinitionsDocument,
+                this::applySecurityDocument);
     }
 
     /**
@@ -253,10 +495,11 @@ public class Swagger2MarkupConverter extends AbstractSchema2MarkupConverter<Swag
     public void toFileWithoutExtension(Path outputFile) {
         Validate.notNull(outputFile, "outputFile must not be null");
 
-        applyOverviewDocument().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8);
-        applyPathsDocument().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        applyDefinitionsDocument().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        applySecurityDocument().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        writeDocuments(outputFile, false,
+                this::applyOverviewDocument,
+                this::applyPathsDocument,
+                this::applyDefinitionsDocument,
+                this::applySecurityDocument);
     }
 
     /**
@@ -279,6 +522,8 @@ public class Swagger2MarkupConverter extends AbstractSchema2MarkupConverter<Swag
         private final URI swaggerLocation;
         private Swagger2MarkupConfig config;
         private Swagger2MarkupExtensionRegistry extensionRegistry;
+        private Supplier<Swagger2MarkupExtensionRegistry> extensionRegistrySupplier;
+        private SwaggerLabels labels;
 
         /**
          * Creates a Builder from a remote URL.
@@ -337,6 +582,35 @@ public class Swagger2MarkupConverter extends AbstractSchema2MarkupConverter<Swag
         public Builder withExtensionRegistry(Swagger2MarkupExtensionRegistry registry) {
             Validate.notNull(registry, "registry must not be null");
             this.extensionRegistry = registry;
+            this.extensionRegistrySupplier = null;
+            return this;
+        }
+
+        /**
+         * Uses a registry supplier, e.g. {@link Swagger2MarkupExtensionRegistryBuilder#registrySupplier()}, which returns
+         * a registry with new extension instances on each call.<br>
+         * Unlike a registry instance, the supplier gives every variant rendered by {@link #toFolders(Map)} or
+         * {@link #toLocalizedFolders(Map)} its own extensions, so that the variants can be rendered concurrently.
+         *
+         * @param extensionRegistrySupplier the registry supplier
+         * @return this builder
+         */
+        public Builder withExtensionRegistry(Supplier<Swagger2MarkupExtensionRegistry> extensionRegistrySupplier) {
+            Validate.notNull(extensionRegistrySupplier, "extensionRegistrySupplier must not be null");
+            this.extensionRegistrySupplier = extensionRegistrySupplier;
+            this.extensionRegistry = null;
+            return this;
+        }
+
+        /**
+         * Uses labels which have already been loaded for the language of the config, e.g. by a {@link Swagger2MarkupBatchConverter}.
+         *
+         * @param labels the labels
+         * @return this builder
+         */
+        Builder withLabels(SwaggerLabels labels) {
+            Validate.notNull(labels, "labels must not be null");
+            this.labels = labels;
             return this;
         }
 
@@ -344,10 +618,17 @@ public class Swagger2MarkupConverter extends AbstractSchema2MarkupConverter<Swag
             if (config == null)
                 config = new Swagger2MarkupConfigBuilder().build();
 
-            if (extensionRegistry == null)
-                extensionRegistry = new Swagger2MarkupExtensionRegistryBuilder().build();
-            SwaggerLabels swaggerLabels = new SwaggerLabels(config);
-            SwaggerContext context = new SwaggerContext(config, extensionRegistry, swagger, swaggerLocation, swaggerLabels);
+            if (extensionRegistry == null && extensionRegistrySupplier == null)
+                extensionRegistrySupplier = Swagger2MarkupExtensionRegistryBuilder.registrySupplier();
+
+            if (labels == null)
+                labels = new SwaggerLabels(config);
+            SwaggerContext context;
+            if (extensionRegistry != null) {
+                context = new SwaggerContext(config, extensionRegistry, swagger, swaggerLocation, labels);
+            } else {
+                context = new SwaggerContext(config, extensionRegistrySupplier, swagger, swaggerLocation, labels);
+            }
 
             initExtensions(context);
 
@@ -356,29 +637,72 @@ public class Swagger2MarkupConverter extends AbstractSchema2MarkupConverter<Swag
             return new Swagger2MarkupConverter(context);
         }
 
-        private void initExtensions(SwaggerContext context) {
-            extensionRegistry.getSwaggerModelExtensions().forEach(extension -> extension.setGlobalContext(context));
-            extensionRegistry.getOverviewDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
-            extensionRegistry.getDefinitionsDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
-            extensionRegistry.getPathsDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
-            extensionRegistry.getSecurityDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
-        }
-
         private void applySwaggerExtensions(SwaggerContext context) {
-            extensionRegistry.getSwaggerModelExtensions().forEach(extension -> extension.apply(context.getSchema()));
+            context.getExtensionRegistry().getSwaggerModelExtensions().forEach(extension -> extension.apply(context.getSchema()));
         }
     }
 
     public static class SwaggerContext extends Context<Swagger> {
         private Swagger2MarkupConfig config;
         private Swagger2MarkupExtensionRegistry extensionRegistry;
+        private final Supplier<Swagger2MarkupExtensionRegistry> extensionRegistrySupplier;
+        private OutputManifest outputManifest;
+        private final MarkupLanguage markupLanguage;
+        private final Language language;
+        private final SwaggerContext source;
+        private final TypeCache typeCache = new TypeCache();
+        private final Map<MarkupLanguage, ExampleCache> exampleCaches;
+        private DefinitionReferenceGraph definitionReferenceGraph;
+        private ResolvedSwagger resolvedSwagger;
 
         public SwaggerContext(Swagger2MarkupConfig config,
                               Swagger2MarkupExtensionRegistry extensionRegistry,
                               Swagger schema, URI swaggerLocation, Labels labels) {
+            this(config, extensionRegistry, null, schema, swaggerLocation, labels, null);
+        }
+
+        private SwaggerContext(Swagger2MarkupConfig config,
+                               Supplier<Swagger2MarkupExtensionRegistry> extensionRegistrySupplier,
+                               Swagger schema, URI swaggerLocation, Labels labels) {
+            this(config, extensionRegistrySupplier.get(), extensionRegistrySupplier, schema, swaggerLocation, labels, null);
+        }
+
+        /**
+         * Creates a variant of a context, which renders the same Swagger specification in another markup language or
+         * another language.<br>
+         * The variant shares the Swagger model, the resolved model and the definition reference graph with its source.
+         * Its config is a copy of the source config with the markup language and the language of the variant.
+         * Examples contain markup, so they are shared by the variants with the same markup language. Types are cached
+         * per variant, because they are resolved against its output path.<br>
+         * If the source has a registry supplier, the variant gets its own extension instances, which are initialized with
+         * the variant. Otherwise it shares the extensions of its source.
+         *
+         * @param source         the source context
+         * @param markupLanguage the markup language of the variant
+         * @param language       the language of the labels and the number format of the variant
+         */
+        private SwaggerContext(SwaggerContext source, MarkupLanguage markupLanguage, Language language) {
+            this(source.config.copyWithLanguages(markupLanguage, language),
+                    source.extensionRegistrySupplier != null ? source.extensionRegistrySupplier.get() : source.extensionRegistry,
+                    source.extensionRegistrySupplier, source.getSchema(), source.getSwaggerLocation(),
+                    language == source.language ? source.getLabels() : new SwaggerLabels(language), source);
+            if (extensionRegistrySupplier != null) {
+                initExtensions(this);
+            }
+        }
+
+        private SwaggerContext(Swagger2MarkupConfig config,
+                               Swagger2MarkupExtensionRegistry extensionRegistry,
+                               Supplier<Swagger2MarkupExtensionRegistry> extensionRegistrySupplier,
+                               Swagger schema, URI swaggerLocation, Labels labels, SwaggerContext source) {
             super(config, extensionRegistry, schema, swaggerLocation, labels);
             this.config = config;
             this.extensionRegistry = extensionRegistry;
+            this.extensionRegistrySupplier = extensionRegistrySupplier;
+            this.markupLanguage = config.getMarkupLanguage();
+            this.language = config.getLanguage();
+            this.source = source;
+            this.exampleCaches = source != null ? source.exampleCaches : Collections.synchronizedMap(new HashMap<>());
         }
 
         @Override
@@ -391,17 +715,114 @@ public class Swagger2MarkupConverter extends AbstractSchema2MarkupConverter<Swag
             return extensionRegistry;
         }
 
+        /**
+         * Returns the manifest of the current conversion into a folder.
+         *
+         * @return the manifest, or null if incremental conversion is disabled
+         */
+        public OutputManifest getOutputManifest() {
+            return outputManifest;
+        }
+
+        public void setOutputManifest(OutputManifest outputManifest) {
+            this.outputManifest = outputManifest;
+        }
+
+        /**
+         * Returns the cache of the types resolved by the current conversion.
+         *
+         * @return the type cache
+         */
+        public TypeCache getTypeCache() {
+            return typeCache;
+        }
+
+        /**
+         * Returns the cache of the examples generated by the current conversion.<br>
+         * The cache is shared by all variants with the same markup language.
+         *
+         * @return the example cache
+         */
+        public ExampleCache getExampleCache() {
+            return exampleCaches.computeIfAbsent(markupLanguage, key -> new ExampleCache());
+        }
+
+        /**
+         * Returns the references between the operations and the definitions of the Swagger specification.<br>
+         * The graph is built on the first request, after the Swagger model extensions have been applied.
+         *
+         * @return the definition reference graph
+         */
+        public synchronized DefinitionReferenceGraph getDefinitionReferenceGraph() {
+            if (source != null) {
+                return source.getDefinitionReferenceGraph();
+            }
+            if (definitionReferenceGraph == null) {
+                definitionReferenceGraph = new DefinitionReferenceGraph(getSchema());
+            }
+            return definitionReferenceGraph;
+        }
+
+        /**
+         * Returns the ordered path operations, parameters and responses of the Swagger specification.<br>
+         * The model is resolved on the first request, after the Swagger model extensions have been applied, and is shared
+         * by all documents.
+         *
+         * @return the resolved Swagger model
+         */
+        public synchronized ResolvedSwagger getResolvedSwagger() {
+            if (source != null) {
+                return source.getResolvedSwagger();
+            }
+            if (resolvedSwagger == null) {
+                resolvedSwagger = new ResolvedSwagger(getSchema(), config);
+            }
+            return resolvedSwagger;
+        }
+
+        @Override
+        public void setOutputPath(Path outputPath) {
+            super.setOutputPath(outputPath);
+            // Cross-references depend on the output path
+            typeCache.clear();
+        }
+
+        /**
+         * Returns the markup language of the documents rendered with this context.
+         *
+         * @return the markup language of the config, or the markup language of a variant
+         */
+        public MarkupLanguage getMarkupLanguage() {
+            return markupLanguage;
+        }
+
+        /**
+         * Returns the language of the labels and the number format of the documents rendered with this context.
+         *
+         * @return the language of the config, or the language of a variant
+         */
+        public Language getLanguage() {
+            return language;
+        }
+
         public MarkupDocBuilder createMarkupDocBuilder() {
-            MarkupLanguage markupLanguage = null;
-            if (config.getMarkupLanguage() != null) {
-                markupLanguage = MarkupLanguage.valueOf(config.getMarkupLanguage().name());
+            io.github.swagger2markup.markup.builder.MarkupLanguage markupLanguage = null;
+            if (this.markupLanguage != null) {
+                markupLanguage = io.github.swagger2markup.markup.builder.MarkupLanguage.valueOf(this.markupLanguage.name());
             }
             LineSeparator lineSeparator = null;
             if (config.getLineSeparator() != null) {
                 lineSeparator = LineSeparator.valueOf(config.getLineSeparator().name());
             }
+            MarkdownToAsciiDocConverter markdownConverter = null;
+            if (config.getAsciidocMarkdownConverter() == MarkdownConverter.COMMONMARK) {
+                markdownConverter = MarkdownToAsciiDocConverters.commonMark();
+            }
             return MarkupDocBuilders.documentBuilder(markupLanguage, lineSeparator,
-                    config.getAsciidocPegdownTimeoutMillis()).withAnchorPrefix(config.getAnchorPrefix());
+                    config.getAsciidocPegdownTimeoutMillis())
+                    .withAnchorPrefix(config.getAnchorPrefix())
+                    .withWriteIfChanged(config.isWriteIfChangedEnabled())
+                    .withMarkdownToAsciiDocConverter(markdownConverter);
         }
     }
 
@@ -99,6 +99,10 @@ public class SwaggerLabels extends Labels {
     public static final String UNKNOWN = "unknown";
 
     public SwaggerLabels(Swagger2MarkupConfig config) {
-        super(ResourceBundle.getBundle("io/github/swagger2markup/lang/labels", config.getLanguage().toLocale()));
+        this(config.getLanguage());
+    }
+
+    public SwaggerLabels(Language language) {
+        super(ResourceBundle.getBundle("io/github/swagger2markup/lang/labels", language.toLocale()));
     }
 }
@@ -19,6 +19,10 @@ package io.github.swagger2markup.builder;
 import io.github.swagger2markup.spi.*;
 
 import java.util.List;
+import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static java.util.ServiceLoader.load;
 import static org.apache.commons.collections4.IteratorUtils.toList;
@@ -45,6 +49,35 @@ public class Swagger2MarkupExtensionRegistryBuilder {
         return new DefaultSwagger2MarkupExtensionRegistry(context);
     }
 
+    /**
+     * Discovers the extensions with the {@link ServiceLoader} once and returns a supplier which builds a registry with new
+     * extension instances on each call.<br>
+     * Extensions keep the global context of a conversion, so that concurrent conversions must not share extension instances.
+     *
+     * @return the registry supplier
+     */
+    public static Supplier<Swagger2MarkupExtensionRegistry> registrySupplier() {
+        List<Provider<SwaggerModelExtension>> swaggerModelExtensions = providers(SwaggerModelExtension.class);
+        List<Provider<OverviewDocumentExtension>> overviewDocumentExtensions = providers(OverviewDocumentExtension.class);
+        List<Provider<DefinitionsDocumentExtension>> definitionsDocumentExtensions = providers(DefinitionsDocumentExtension.class);
+        List<Provider<PathsDocumentExtension>> pathsDocumentExtensions = providers(PathsDocumentExtension.class);
+        List<Provider<SecurityDocumentExtension>> securityDocumentExtensions = providers(SecurityDocumentExtension.class);
+        return () -> new DefaultSwagger2MarkupExtensionRegistry(new Context(
+                instances(swaggerModelExtensions),
+                instances(overviewDocumentExtensions),
+                instances(definitionsDocumentExtensions),
+                instances(pathsDocumentExtensions),
+                instances(securityDocumentExtensions)));
+    }
+
+    private static <T> List<Provider<T>> providers(Class<T> extensionClass) {
+        return load(extensionClass).stream().collect(Collectors.toList());
+    }
+
+    private static <T> List<T> instances(List<Provider<T>> providers) {
+        return providers.stream().map(Provider::get).collect(Collectors.toList());
+    }
+
     public Swagger2MarkupExtensionRegistryBuilder withSwaggerModelExtension(SwaggerModelExtension extension) {
         context.swaggerModelExtensions.add(extension);
         return this;
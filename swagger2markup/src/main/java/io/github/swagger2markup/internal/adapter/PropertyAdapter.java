@@ -91,7 +91,7 @@ public final class PropertyAdapter {
             case "ref":
                 if (property instanceof RefProperty) {
                     if (logger.isDebugEnabled()) logger.debug("generateExample RefProperty for " + property.getName());
-                    return markupDocBuilder.copy(false).crossReference(((RefProperty) property).getSimpleRef()).toString();
+                    return markupDocBuilder.fragment().crossReference(((RefProperty) property).getSimpleRef()).toString();
                 } else {
                     if (logger.isDebugEnabled()) logger.debug("generateExample for ref not RefProperty");
                 }
@@ -162,7 +162,7 @@ public final class PropertyAdapter {
             if (refProperty.getRefFormat() == RefFormat.RELATIVE)
                 type = new ObjectType(refProperty.getTitle(), null); // FIXME : Workaround for https://github.com/swagger-api/swagger-parser/issues/177
             else
-                type = new RefType(definitionDocumentResolver.apply(refProperty.getSimpleRef()), new ObjectType(refProperty.getSimpleRef(), null /* FIXME, not used for now */));
+                type = new RefType(definitionDocumentResolver.getTypeCache().getDocument(refProperty.getSimpleRef(), definitionDocumentResolver), new ObjectType(refProperty.getSimpleRef(), null /* FIXME, not used for now */));
         } else if (property instanceof ArrayProperty) {
             ArrayProperty arrayProperty = (ArrayProperty) property;
             Property items = arrayProperty.getItems();
@@ -62,7 +62,7 @@ public class BodyParameterComponent extends MarkupComponent<BodyParameterCompone
         SwaggerPathOperation operation = params.operation;
         List<ObjectType> inlineDefinitions = params.inlineDefinitions;
         if (config.isFlatBodyEnabled()) {
-            List<Parameter> parameters = operation.getOperation().getParameters();
+            List<Parameter> parameters = context.getResolvedSwagger().getOperation(operation.getOperation()).getParameters();
             if (CollectionUtils.isNotEmpty(parameters)) {
                 for (Parameter parameter : parameters) {
                     if (StringUtils.equals(parameter.getIn(), "body")) {
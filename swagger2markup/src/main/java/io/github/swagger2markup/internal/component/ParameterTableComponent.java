@@ -30,7 +30,6 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -63,15 +62,7 @@ public class ParameterTableComponent extends MarkupComponent<ParameterTableCompo
     public MarkupDocBuilder apply(MarkupDocBuilder markupDocBuilder, Parameters params) {
         SwaggerPathOperation operation = params.operation;
         List<ObjectType> inlineDefinitions = params.inlineDefinitions;
-        List<Parameter> parameters = operation.getOperation().getParameters();
-        if (config.getParameterOrdering() != null) {
-            Comparator<io.github.swagger2markup.model.Parameter> parameterOrdering = config.getParameterOrdering();
-            parameters.sort((o1, o2) -> {
-                io.github.swagger2markup.model.Parameter p1 = new io.github.swagger2markup.model.Parameter(o1.getName(), o1.getIn());
-                io.github.swagger2markup.model.Parameter p2 = new io.github.swagger2markup.model.Parameter(o2.getName(), o2.getIn());
-                return parameterOrdering.compare(p1, p2);
-            });
-        }
+        List<Parameter> parameters = context.getResolvedSwagger().getOperation(operation.getOperation()).getParameters();
 
         // Filter parameters to display in parameters section
         List<Parameter> filteredParameters = parameters.stream()
@@ -128,7 +119,7 @@ public class ParameterTableComponent extends MarkupComponent<ParameterTableCompo
     }
 
     private String buildDescriptionForParameter(MarkupDocBuilder markupDocBuilder, ParameterAdapter parameterAdapter) {
-        MarkupDocBuilder descriptionBuilder = copyMarkupDocBuilder(markupDocBuilder);
+        MarkupDocBuilder descriptionBuilder = markupDocBuilder.fragment();
         String basicDescription = parameterAdapter.displayDescription(descriptionBuilder);
         descriptionBuilder.text(basicDescription);
 
@@ -142,7 +133,7 @@ public class ParameterTableComponent extends MarkupComponent<ParameterTableCompo
     }
 
     private String getParameterNameColumnContent(MarkupDocBuilder markupDocBuilder, ParameterAdapter parameter) {
-        MarkupDocBuilder parameterNameContent = copyMarkupDocBuilder(markupDocBuilder);
+        MarkupDocBuilder parameterNameContent = markupDocBuilder.fragment();
 
         parameterNameContent.boldTextLine(parameter.getName(), true);
         if (parameter.getRequired())
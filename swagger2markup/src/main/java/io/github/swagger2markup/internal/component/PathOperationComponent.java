@@ -16,14 +16,13 @@
 package io.github.swagger2markup.internal.component;
 
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.swagger2markup.Swagger2MarkupConverter;
 import io.github.swagger2markup.GroupBy;
 import io.github.swagger2markup.PageBreakLocations;
 import io.github.swagger2markup.internal.resolver.DocumentResolver;
 import io.github.swagger2markup.internal.type.ObjectType;
+import io.github.swagger2markup.internal.utils.ExampleJsonUtils;
 import io.github.swagger2markup.internal.utils.ExamplesUtil;
 import io.github.swagger2markup.internal.utils.pathexamples.BasicPathExample;
 import io.github.swagger2markup.internal.utils.pathexamples.CurlPathExample;
@@ -36,7 +35,6 @@ import io.github.swagger2markup.markup.builder.MarkupLanguage;
 import io.github.swagger2markup.model.SwaggerPathOperation;
 import io.github.swagger2markup.spi.MarkupComponent;
 import io.swagger.models.Model;
-import io.swagger.util.Json;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.Validate;
@@ -392,36 +390,35 @@ public class PathOperationComponent extends MarkupComponent<PathOperationCompone
 
                 if (NumberUtils.isCreatable(entry.getKey())) {
                     // Section header is an HTTP status code (numeric)
-                    JsonNode rootNode = parseExample(entry.getValue());
-                    Iterator<Map.Entry<String, JsonNode>> fieldsIterator = rootNode.fields();
+                    Iterator<? extends Map.Entry<String, ?>> fieldsIterator = exampleFields(entry.getValue());
 
                     if (!fieldsIterator.hasNext()) {
                         // rootNode contains a single example, no need to further iterate.
-                        String example = Json.pretty(rootNode);
+                        String example = ExampleJsonUtils.pretty(entry.getValue());
 //                        String example = Json.pretty(stripExampleQuotes(rootNode.toString()));
 //                        example = Json.pretty(example);
-                        markupDocBuilder.listingBlock(example, "json");
+                        exampleListingBlock(markupDocBuilder, example, "json");
                     }
                     while (fieldsIterator.hasNext()) {
-                        Map.Entry<String, JsonNode> field = fieldsIterator.next();
+                        Map.Entry<String, ?> field = fieldsIterator.next();
 
                         if (field.getKey().equals("application/json") || field.getKey().contains("+json")) {
-                            String example = Json.pretty(field.getValue());
+                            String example = ExampleJsonUtils.pretty(field.getValue());
                             example = stripExampleQuotes(StringEscapeUtils.unescapeJson(example));
 
-                            markupDocBuilder.listingBlock(example, "json");
+                            exampleListingBlock(markupDocBuilder, example, "json");
 
                         } else if (field.getKey().equals("application/xml") || field.getKey().contains("+xml")) {
 
-                            String example = stripExampleQuotes(field.getValue().toString());
+                            String example = stripExampleQuotes(ExampleJsonUtils.toJson(field.getValue()));
                             example = StringEscapeUtils.unescapeJava(example);
 
                             //TODO: pretty print XML
 
-                            markupDocBuilder.listingBlock(example, "xml");
+                            exampleListingBlock(markupDocBuilder, example, "xml");
                         } else {
-                            String example = Json.pretty(entry.getValue());
-                            markupDocBuilder.listingBlock(example, "json");
+                            String example = ExampleJsonUtils.pretty(entry.getValue());
+                            exampleListingBlock(markupDocBuilder, example, "json");
                             break; // No need to print the same example multiple times
                         }
                     }
@@ -443,10 +440,10 @@ public class PathOperationComponent extends MarkupComponent<PathOperationCompone
 
                         for (Entry<String, String> entryByType : examplesByContentType.entrySet()) {
                             if (entryByType.getKey().equals("application/json")) {
-                                String example = Json.pretty(entryByType.getValue());
+                                String example = ExampleJsonUtils.pretty(entryByType.getValue());
                                 example = stripExampleQuotes(StringEscapeUtils.unescapeJson(example));
 
-                                markupDocBuilder.listingBlock(example, "json");
+                                exampleListingBlock(markupDocBuilder, example, "json");
 
                             } else if (entryByType.getKey().equals("application/xml")) {
 
@@ -455,15 +452,15 @@ public class PathOperationComponent extends MarkupComponent<PathOperationCompone
 
                                 //TODO: pretty print XML
 
-                                markupDocBuilder.listingBlock(example, "xml");
+                                exampleListingBlock(markupDocBuilder, example, "xml");
                             } else {
-                                String example = Json.pretty(entry.getValue());
-                                markupDocBuilder.listingBlock(example, "json");
+                                String example = ExampleJsonUtils.pretty(entry.getValue());
+                                exampleListingBlock(markupDocBuilder, example, "json");
                                 break; // No need to print the same example multiple times
                             }
                         }
                     } else {
-                        markupDocBuilder.listingBlock(Json.pretty(value), "json");
+                        exampleListingBlock(markupDocBuilder, ExampleJsonUtils.pretty(value), "json");
                     }
                 }
             }
@@ -471,6 +468,22 @@ public class PathOperationComponent extends MarkupComponent<PathOperationCompone
         }
     }
 
+    /**
+     * Adds an example listing block, cutting examples which are longer than the configured maximum length.
+     *
+     * @param markupDocBuilder the markup builder
+     * @param example          the rendered example
+     * @param language         the source language of the example
+     */
+    private void exampleListingBlock(MarkupDocBuilder markupDocBuilder, String example, String language) {
+        int maxLength = config.getGeneratedExamplesMaxLength();
+        if (maxLength > 0 && example.length() > maxLength) {
+            int end = Character.isHighSurrogate(example.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+            example = example.substring(0, end) + System.lineSeparator() + "...";
+        }
+        markupDocBuilder.listingBlock(example, language);
+    }
+
     /**
      * Strip leading and trailing quotes from a string
      *
@@ -484,19 +497,23 @@ public class PathOperationComponent extends MarkupComponent<PathOperationCompone
     }
 
     /**
-     * Parse a JSON array
+     * Returns the fields of an example, e.g. the examples by content type.<br>
+     * Maps and JSON trees are iterated as they are, so that shared examples are not copied for rendering.
      *
-     * @param raw Object containing a JSON string
-     * @return JsonNode[contentType, example]
-     * @throws RuntimeException when the given JSON string cannot be parsed
+     * @param example the example
+     * @return the fields of the example, or no fields if the example is a single value or an array
      */
-    private JsonNode parseExample(Object raw) throws RuntimeException {
-        try {
-            JsonFactory factory = new JsonFactory();
-            ObjectMapper mapper = new ObjectMapper(factory);
-            return mapper.readTree(Json.pretty(raw));
-        } catch (Exception ex) {
-            throw new RuntimeException("Failed to read example", ex);
+    @SuppressWarnings("unchecked")
+    private Iterator<? extends Map.Entry<String, ?>> exampleFields(Object example) {
+        if (example instanceof Map) {
+            return ((Map<String, ?>) example).entrySet().iterator();
+        } else if (example instanceof JsonNode) {
+            return ((JsonNode) example).fields();
+        } else if (example == null || example instanceof CharSequence || example instanceof Number || example instanceof Boolean
+                || example instanceof Collection || example.getClass().isArray()) {
+            return Collections.emptyIterator();
+        } else {
+            return ExampleJsonUtils.toJsonNode(example).fields();
         }
     }
 
@@ -23,6 +23,7 @@ import io.github.swagger2markup.internal.resolver.DocumentResolver;
 import io.github.swagger2markup.internal.type.ObjectType;
 import io.github.swagger2markup.internal.type.RefType;
 import io.github.swagger2markup.internal.type.Type;
+import io.github.swagger2markup.internal.utils.ExampleJsonUtils;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
 import io.github.swagger2markup.spi.MarkupComponent;
@@ -41,7 +42,6 @@ import java.util.Optional;
 import static io.github.swagger2markup.SwaggerLabels.*;
 import static io.github.swagger2markup.internal.utils.InlineSchemaUtils.createInlineType;
 import static io.github.swagger2markup.internal.utils.MapUtils.toSortedMap;
-import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.copyMarkupDocBuilder;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.markupDescription;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
@@ -105,7 +105,7 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
                 Optional<BigDecimal> optionalMaxValue = propertyAdapter.getMax();
                 boolean exclusiveMax = propertyAdapter.getExclusiveMax();
 
-                MarkupDocBuilder propertyNameContent = copyMarkupDocBuilder(markupDocBuilder);
+                MarkupDocBuilder propertyNameContent = markupDocBuilder.fragment();
                 propertyNameContent.boldTextLine(propertyName, true);
                 if (property.getRequired())
                     propertyNameContent.italicText(labels.getLabel(FLAGS_REQUIRED).toLowerCase());
@@ -115,10 +115,11 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
                     propertyNameContent.newLine(true);
                     propertyNameContent.italicText(labels.getLabel(FLAGS_READ_ONLY).toLowerCase());
                 }
+                nameColumnBuilder.add(propertyNameContent.toString());
 
-                MarkupDocBuilder descriptionContent = copyMarkupDocBuilder(markupDocBuilder);
+                MarkupDocBuilder descriptionContent = markupDocBuilder.fragment();
                 String description = markupDescription(MarkupLanguage.valueOf(config.getSchemaMarkupLanguage().name()),
-                        markupDocBuilder, property.getDescription());
+                        descriptionContent, property.getDescription());
                 if (isNotBlank(description))
                     descriptionContent.text(description);
 
@@ -169,7 +170,7 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
                 }
 
                 DecimalFormat numberFormatter = new DecimalFormat("#.##",
-                  DecimalFormatSymbols.getInstance(config.getLanguage().toLocale()));
+                  DecimalFormatSymbols.getInstance(context.getLanguage().toLocale()));
 
                 if (optionalMinValue.isPresent()) {
                     if (isNotBlank(descriptionContent.toString())) {
@@ -195,11 +196,10 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
                     if(propertyType instanceof RefType && isReferenceLink(optionalExample.get().toString())) {
                         descriptionContent.boldText(labels.getLabel(EXAMPLE_COLUMN)).text(COLON).crossReference(optionalExample.get().toString());
                     } else {
-                        descriptionContent.boldText(labels.getLabel(EXAMPLE_COLUMN)).text(COLON).literalText(Json.pretty(optionalExample.get()));
+                        descriptionContent.boldText(labels.getLabel(EXAMPLE_COLUMN)).text(COLON).literalText(ExampleJsonUtils.pretty(optionalExample.get()));
                     }
                 }
 
-                nameColumnBuilder.add(propertyNameContent.toString());
                 descriptionColumnBuilder.add(descriptionContent.toString());
                 schemaColumnBuilder.add(propertyType.displaySchema(markupDocBuilder));
             });
@@ -43,7 +43,6 @@ import java.util.Optional;
 import static ch.netzwerg.paleo.ColumnIds.StringColumnId;
 import static io.github.swagger2markup.SwaggerLabels.*;
 import static io.github.swagger2markup.internal.utils.InlineSchemaUtils.createInlineType;
-import static io.github.swagger2markup.internal.utils.MapUtils.toSortedMap;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.*;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
@@ -70,7 +69,7 @@ public class ResponseComponent extends MarkupComponent<ResponseComponent.Paramet
     @Override
     public MarkupDocBuilder apply(MarkupDocBuilder markupDocBuilder, Parameters params) {
         SwaggerPathOperation operation = params.operation;
-        Map<String, Response> responses = operation.getOperation().getResponses();
+        Map<String, Response> responses = context.getResolvedSwagger().getOperation(operation.getOperation()).getResponses();
 
         MarkupDocBuilder responsesBuilder = copyMarkupDocBuilder(markupDocBuilder);
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(PathsDocumentExtension.Position.OPERATION_RESPONSES_BEGIN, responsesBuilder, operation));
@@ -84,8 +83,7 @@ public class ResponseComponent extends MarkupComponent<ResponseComponent.Paramet
                     .putMetaData(TableComponent.WIDTH_RATIO, "4")
                     .putMetaData(TableComponent.HEADER_COLUMN, "true");
 
-            Map<String, Response> sortedResponses = toSortedMap(responses, config.getResponseOrdering());
-            sortedResponses.forEach((String responseName, Response response) -> {
+            responses.forEach((String responseName, Response response) -> {
                 String schemaContent = labels.getLabel(NO_CONTENT);
                 if (response.getResponseSchema() != null) {
                     Model model = response.getResponseSchema();
@@ -104,10 +102,11 @@ public class ResponseComponent extends MarkupComponent<ResponseComponent.Paramet
                     schemaContent = type.displaySchema(markupDocBuilder);
                 }
 
-                MarkupDocBuilder descriptionBuilder = copyMarkupDocBuilder(markupDocBuilder);
+                // The description is a scratch builder, so the inline markup in it is rendered with its own scratch builder
+                MarkupDocBuilder descriptionBuilder = markupDocBuilder.fragment();
 
                 descriptionBuilder.text(markupDescription(MarkupLanguage.valueOf(config.getSchemaMarkupLanguage().name()),
-                        markupDocBuilder, response.getDescription()));
+                        descriptionBuilder, response.getDescription()));
 
                 Map<String, Property> headers = response.getHeaders();
                 if (MapUtils.isNotEmpty(headers)) {
@@ -118,12 +117,12 @@ public class ResponseComponent extends MarkupComponent<ResponseComponent.Paramet
                         PropertyAdapter headerPropertyAdapter = new PropertyAdapter(headerProperty);
                         Type propertyType = headerPropertyAdapter.getType(definitionDocumentResolver);
                         String headerDescription = markupDescription(MarkupLanguage.valueOf(config.getSchemaMarkupLanguage().name()),
-                                markupDocBuilder, headerProperty.getDescription());
+                                descriptionBuilder, headerProperty.getDescription());
                         Optional<Object> optionalDefaultValue = headerPropertyAdapter.getDefaultValue();
 
                         descriptionBuilder
                                 .literalText(header.getKey())
-                                .text(String.format(" (%s)", propertyType.displaySchema(markupDocBuilder)));
+                                .text(String.format(" (%s)", propertyType.displaySchema(descriptionBuilder)));
 
                         if (isNotBlank(headerDescription) || optionalDefaultValue.isPresent()) {
                             descriptionBuilder.text(COLON);
@@ -140,8 +139,8 @@ public class ResponseComponent extends MarkupComponent<ResponseComponent.Paramet
                     }
                 }
 
-                httpCodeColumnBuilder.add(boldText(markupDocBuilder, responseName));
                 descriptionColumnBuilder.add(descriptionBuilder.toString());
+                httpCodeColumnBuilder.add(boldText(markupDocBuilder, responseName));
                 schemaColumnBuilder.add(schemaContent);
             });
 
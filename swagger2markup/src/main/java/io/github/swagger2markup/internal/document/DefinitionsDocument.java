@@ -21,6 +21,8 @@ import io.github.swagger2markup.internal.component.DefinitionComponent;
 import io.github.swagger2markup.internal.resolver.DefinitionDocumentNameResolver;
 import io.github.swagger2markup.internal.resolver.DefinitionDocumentResolverDefault;
 import io.github.swagger2markup.internal.resolver.DefinitionDocumentResolverFromDefinition;
+import io.github.swagger2markup.internal.utils.OutputManifest;
+import io.github.swagger2markup.internal.utils.PathUtils;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.github.swagger2markup.spi.DefinitionsDocumentExtension.Context;
 import io.github.swagger2markup.spi.MarkupComponent;
@@ -32,6 +34,7 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.github.swagger2markup.internal.utils.MapUtils.toSortedMap;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.copyMarkupDocBuilder;
@@ -96,14 +99,31 @@ public class DefinitionsDocument extends MarkupComponent<DefinitionsDocument.Par
 
     private void buildDefinitionsSection(MarkupDocBuilder markupDocBuilder, Map<String, Model> definitions) {
         Map<String, Model> sortedMap = toSortedMap(definitions, config.getDefinitionOrdering());
+        Set<String> reachableDefinitions = config.isUnreachableDefinitionsPruningEnabled() ? getReachableDefinitions() : null;
         sortedMap.forEach((String definitionName, Model model) -> {
             if (isNotBlank(definitionName)
-                    && checkThatDefinitionIsNotInIgnoreList(definitionName)) {
+                    && checkThatDefinitionIsNotInIgnoreList(definitionName)
+                    && (reachableDefinitions == null || reachableDefinitions.contains(definitionName))) {
                 buildDefinition(markupDocBuilder, definitionName, model);
             }
         });
     }
 
+    /**
+     * Returns the definitions which are referenced by the rendered operations, directly or through other definitions.
+     *
+     * @return the names of the reachable definitions
+     */
+    private Set<String> getReachableDefinitions() {
+        Set<String> reachableDefinitions = context.getDefinitionReferenceGraph()
+                .getReachableDefinitions(PathUtils.toRenderedPathOperationsList(context.getSchema(),
+                        context.getResolvedSwagger().getPathOperations(), config));
+        if (logger.isDebugEnabled()) {
+            logger.debug("Definitions reachable from the rendered operations : {}", reachableDefinitions);
+        }
+        return reachableDefinitions;
+    }
+
     /**
      * Apply extension context to all DefinitionsContentExtension
      *
@@ -124,12 +144,20 @@ public class DefinitionsDocument extends MarkupComponent<DefinitionsDocument.Par
             logger.debug("Definition processed : '{}'", definitionName);
         }
         if (config.isSeparatedDefinitionsEnabled()) {
-            MarkupDocBuilder defDocBuilder = copyMarkupDocBuilder(markupDocBuilder);
-            applyDefinitionComponent(defDocBuilder, definitionName, model);
-            Path definitionFile = context.getOutputPath().resolve(definitionDocumentNameResolver.apply(definitionName));
-            defDocBuilder.writeToFileWithoutExtension(definitionFile, StandardCharsets.UTF_8);
-            if (logger.isDebugEnabled()) {
-                logger.debug("Separate definition file produced : '{}'", definitionFile);
+            String definitionFileName = definitionDocumentNameResolver.apply(definitionName);
+            Path definitionFile = context.getOutputPath().resolve(definitionFileName);
+            OutputManifest outputManifest = context.getOutputManifest();
+            if (outputManifest != null && outputManifest.isUpToDate(definitionFileName, Collections.singletonMap(definitionName, model))) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Separate definition file unchanged : '{}'", definitionFile);
+                }
+            } else {
+                MarkupDocBuilder defDocBuilder = copyMarkupDocBuilder(markupDocBuilder);
+                applyDefinitionComponent(defDocBuilder, definitionName, model);
+                defDocBuilder.writeToFileWithoutExtension(definitionFile, StandardCharsets.UTF_8);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Separate definition file produced : '{}'", definitionFile);
+                }
             }
 
             definitionRef(markupDocBuilder, definitionName);
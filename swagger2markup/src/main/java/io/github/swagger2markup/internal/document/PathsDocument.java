@@ -25,6 +25,8 @@ import io.github.swagger2markup.internal.resolver.DefinitionDocumentResolverFrom
 import io.github.swagger2markup.internal.resolver.OperationDocumentNameResolver;
 import io.github.swagger2markup.internal.resolver.OperationDocumentResolverDefault;
 import io.github.swagger2markup.internal.resolver.SecurityDocumentResolver;
+import io.github.swagger2markup.internal.utils.ConcurrentUtils;
+import io.github.swagger2markup.internal.utils.OutputManifest;
 import io.github.swagger2markup.internal.utils.PathUtils;
 import io.github.swagger2markup.internal.utils.RegexUtils;
 import io.github.swagger2markup.internal.utils.TagUtils;
@@ -43,9 +45,14 @@ import org.apache.commons.lang3.Validate;
 import org.apache.commons.text.WordUtils;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.copyMarkupDocBuilder;
@@ -82,6 +89,12 @@ public class PathsDocument extends MarkupComponent<PathsDocument.Parameters> {
             } else {
                 logger.debug("Create separated operation files is disabled.");
             }
+
+            if (config.isParallelOperationsEnabled()) {
+                logger.debug("Render operations in parallel is enabled.");
+            } else {
+                logger.debug("Render operations in parallel is disabled.");
+            }
         }
     }
 
@@ -114,42 +127,77 @@ public class PathsDocument extends MarkupComponent<PathsDocument.Parameters> {
      * @param paths the Swagger paths
      */
     private void buildsPathsSection(MarkupDocBuilder markupDocBuilder, Map<String, Path> paths) {
-        List<SwaggerPathOperation> pathOperations = PathUtils.toPathOperationsList(paths, getHostname(), getBasePath(), config.getOperationOrdering());
+        List<SwaggerPathOperation> pathOperations;
+        if (paths == context.getSchema().getPaths()) {
+            pathOperations = context.getResolvedSwagger().getPathOperations();
+        } else {
+            pathOperations = PathUtils.toPathOperationsList(paths, getHostname(), getBasePath(), config.getOperationOrdering());
+        }
         if (CollectionUtils.isNotEmpty(pathOperations)) {
-            if (config.getPathsGroupedBy() == GroupBy.AS_IS) {
-                pathOperations.forEach(operation -> buildOperation(markupDocBuilder, operation, config));
-            } else if (config.getPathsGroupedBy() == GroupBy.TAGS) {
-                Validate.notEmpty(context.getSchema().getTags(), "Tags must not be empty, when operations are grouped by tags");
-                // Group operations by tag
-                Multimap<String, SwaggerPathOperation> operationsGroupedByTag = TagUtils.groupOperationsByTag(pathOperations, config.getOperationOrdering());
+            if (config.isParallelOperationsEnabled()) {
+                ForkJoinPool pool = new ForkJoinPool(getParallelism());
+                try {
+                    OperationsBuilder operationsBuilder = new OperationsBuilder(markupDocBuilder, pool);
+                    buildsPathsSection(operationsBuilder, pathOperations);
+                    operationsBuilder.merge();
+                } finally {
+                    pool.shutdownNow();
+                }
+            } else {
+                buildsPathsSection(new OperationsBuilder(markupDocBuilder, null), pathOperations);
+            }
+        }
+    }
 
-                Map<String, Tag> tagsMap = TagUtils.toSortedMap(context.getSchema().getTags(), config.getTagOrdering());
+    private void buildsPathsSection(OperationsBuilder operationsBuilder, List<SwaggerPathOperation> pathOperations) {
+        if (config.getPathsGroupedBy() == GroupBy.AS_IS) {
+            pathOperations.forEach(operationsBuilder::operation);
+        } else if (config.getPathsGroupedBy() == GroupBy.TAGS) {
+            Validate.notEmpty(context.getSchema().getTags(), "Tags must not be empty, when operations are grouped by tags");
+            // Group operations by tag
+            Multimap<String, SwaggerPathOperation> operationsGroupedByTag = TagUtils.groupOperationsByTag(pathOperations, config.getOperationOrdering());
 
-                tagsMap.forEach((String tagName, Tag tag) -> {
+            Map<String, Tag> tagsMap = TagUtils.toSortedMap(context.getSchema().getTags(), config.getTagOrdering());
+
+            tagsMap.forEach((String tagName, Tag tag) -> {
+                operationsBuilder.section(markupDocBuilder -> {
                     markupDocBuilder.sectionTitleWithAnchorLevel2(WordUtils.capitalize(tagName), tagName + "_resource");
                     String description = tag.getDescription();
                     if (StringUtils.isNotBlank(description)) {
                         markupDocBuilder.paragraph(description);
                     }
-                    operationsGroupedByTag.get(tagName).forEach(operation -> buildOperation(markupDocBuilder, operation, config));
-
                 });
-            } else if (config.getPathsGroupedBy() == GroupBy.REGEX) {
-                Validate.notNull(config.getHeaderPattern(), "Header regex pattern must not be empty when operations are grouped using regex");
+                operationsGroupedByTag.get(tagName).forEach(operationsBuilder::operation);
 
-                Pattern headerPattern = config.getHeaderPattern();
-                Multimap<String, SwaggerPathOperation> operationsGroupedByRegex = RegexUtils.groupOperationsByRegex(pathOperations, headerPattern);
-                Set<String> keys = operationsGroupedByRegex.keySet();
-                String[] sortedHeaders = RegexUtils.toSortedArray(keys);
+            });
+        } else if (config.getPathsGroupedBy() == GroupBy.REGEX) {
+            Validate.notNull(config.getHeaderPattern(), "Header regex pattern must not be empty when operations are grouped using regex");
 
-                for (String header : sortedHeaders) {
-                    markupDocBuilder.sectionTitleWithAnchorLevel2(WordUtils.capitalize(header), header + "_resource");
-                    operationsGroupedByRegex.get(header).forEach(operation -> buildOperation(markupDocBuilder, operation, config));
-                }
+            Pattern headerPattern = config.getHeaderPattern();
+            Multimap<String, SwaggerPathOperation> operationsGroupedByRegex = RegexUtils.groupOperationsByRegex(pathOperations, headerPattern);
+            Set<String> keys = operationsGroupedByRegex.keySet();
+            String[] sortedHeaders = RegexUtils.toSortedArray(keys);
+
+            for (String header : sortedHeaders) {
+                operationsBuilder.section(markupDocBuilder ->
+                        markupDocBuilder.sectionTitleWithAnchorLevel2(WordUtils.capitalize(header), header + "_resource"));
+                operationsGroupedByRegex.get(header).forEach(operationsBuilder::operation);
             }
         }
     }
 
+    /**
+     * Returns the number of threads used to render operations in parallel.
+     *
+     * @return the configured parallelism or the number of available processors
+     */
+    private int getParallelism() {
+        if (config.getParallelism() > 1) {
+            return config.getParallelism();
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
     /**
      * Builds the path title depending on the operationsGroupedBy configuration setting.
      */
@@ -207,12 +255,20 @@ public class PathsDocument extends MarkupComponent<PathsDocument.Parameters> {
      */
     private void buildOperation(MarkupDocBuilder markupDocBuilder, SwaggerPathOperation operation, Swagger2MarkupConfig config) {
         if (config.isSeparatedOperationsEnabled()) {
-            MarkupDocBuilder pathDocBuilder = copyMarkupDocBuilder(markupDocBuilder);
-            applyPathOperationComponent(pathDocBuilder, operation);
-            java.nio.file.Path operationFile = context.getOutputPath().resolve(operationDocumentNameResolver.apply(operation));
-            pathDocBuilder.writeToFileWithoutExtension(operationFile, StandardCharsets.UTF_8);
-            if (logger.isDebugEnabled()) {
-                logger.debug("Separate operation file produced : '{}'", operationFile);
+            String operationFileName = operationDocumentNameResolver.apply(operation);
+            java.nio.file.Path operationFile = context.getOutputPath().resolve(operationFileName);
+            OutputManifest outputManifest = context.getOutputManifest();
+            if (outputManifest != null && outputManifest.isUpToDate(operationFileName, operation)) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Separate operation file unchanged : '{}'", operationFile);
+                }
+            } else {
+                MarkupDocBuilder pathDocBuilder = copyMarkupDocBuilder(markupDocBuilder);
+                applyPathOperationComponent(pathDocBuilder, operation);
+                pathDocBuilder.writeToFileWithoutExtension(operationFile, StandardCharsets.UTF_8);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Separate operation file produced : '{}'", operationFile);
+                }
             }
             buildOperationRef(markupDocBuilder, operation);
 
@@ -262,6 +318,48 @@ public class PathsDocument extends MarkupComponent<PathsDocument.Parameters> {
         }
     }
 
+    /**
+     * Builds operations and sections of the paths document in order.<br>
+     * Without a pool, everything is built directly into the document. With a pool, each operation is built into its own
+     * copy of the document builder on a worker thread, and the fragments are merged into the document in submission order.
+     */
+    private class OperationsBuilder {
+        private final MarkupDocBuilder markupDocBuilder;
+        private final ForkJoinPool pool;
+        private final List<Future<MarkupDocBuilder>> fragments = new ArrayList<>();
+
+        OperationsBuilder(MarkupDocBuilder markupDocBuilder, ForkJoinPool pool) {
+            this.markupDocBuilder = markupDocBuilder;
+            this.pool = pool;
+        }
+
+        void section(Consumer<MarkupDocBuilder> section) {
+            if (pool == null) {
+                section.accept(markupDocBuilder);
+            } else {
+                MarkupDocBuilder fragment = copyMarkupDocBuilder(markupDocBuilder);
+                section.accept(fragment);
+                fragments.add(CompletableFuture.completedFuture(fragment));
+            }
+        }
+
+        void operation(SwaggerPathOperation operation) {
+            if (pool == null) {
+                buildOperation(markupDocBuilder, operation, config);
+            } else {
+                fragments.add(pool.submit(() -> {
+                    MarkupDocBuilder fragment = copyMarkupDocBuilder(markupDocBuilder);
+                    buildOperation(fragment, operation, config);
+                    return fragment;
+                }));
+            }
+        }
+
+        void merge() {
+            ConcurrentUtils.getAll(fragments).forEach(markupDocBuilder::append);
+        }
+    }
+
     public static class Parameters {
         private final Map<String, Path> paths;
 
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.model;
+
+import io.github.swagger2markup.Swagger2MarkupConfig;
+import io.swagger.models.Operation;
+import io.swagger.models.Response;
+import io.swagger.models.parameters.Parameter;
+
+import java.util.*;
+
+import static io.github.swagger2markup.internal.utils.MapUtils.toSortedMap;
+
+/**
+ * The parameters and responses of a Swagger operation, ordered as configured.<br>
+ * The Swagger model itself is left untouched, and the ordered collections are unmodifiable.
+ */
+public class ResolvedOperation {
+
+    private final List<Parameter> parameters;
+    private final Map<String, Response> responses;
+
+    ResolvedOperation(Operation operation, Swagger2MarkupConfig config) {
+        List<Parameter> sortedParameters = operation.getParameters() != null ? new ArrayList<>(operation.getParameters()) : new ArrayList<>();
+        if (config.getParameterOrdering() != null) {
+            Comparator<io.github.swagger2markup.model.Parameter> parameterOrdering = config.getParameterOrdering();
+            sortedParameters.sort((o1, o2) -> {
+                io.github.swagger2markup.model.Parameter p1 = new io.github.swagger2markup.model.Parameter(o1.getName(), o1.getIn());
+                io.github.swagger2markup.model.Parameter p2 = new io.github.swagger2markup.model.Parameter(o2.getName(), o2.getIn());
+                return parameterOrdering.compare(p1, p2);
+            });
+        }
+        this.parameters = Collections.unmodifiableList(sortedParameters);
+        this.responses = operation.getResponses() != null
+                ? Collections.unmodifiableMap(toSortedMap(operation.getResponses(), config.getResponseOrdering()))
+                : Collections.emptyMap();
+    }
+
+    /**
+     * Returns the parameters, ordered by the configured parameter ordering.
+     *
+     * @return the parameters
+     */
+    public List<Parameter> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Returns the responses by HTTP code, ordered by the configured response ordering.
+     *
+     * @return the responses
+     */
+    public Map<String, Response> getResponses() {
+        return responses;
+    }
+}
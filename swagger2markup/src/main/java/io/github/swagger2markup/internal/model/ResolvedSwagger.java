@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.model;
+
+import io.github.swagger2markup.Swagger2MarkupConfig;
+import io.github.swagger2markup.internal.utils.PathUtils;
+import io.github.swagger2markup.model.SwaggerPathOperation;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.Swagger;
+
+import java.util.*;
+
+import static org.apache.commons.lang3.StringUtils.defaultString;
+
+/**
+ * The parts of a Swagger specification which the documents need ordered and resolved, built once per conversion:
+ * the path operations with their full paths, and the ordered parameters and responses of every operation.<br>
+ * The model depends neither on the markup language nor on the labels. It is immutable, so that documents and operations
+ * can be rendered from it in parallel.
+ * Types are not part of the model, because they depend on the document which references them. They are memoized by the
+ * {@link io.github.swagger2markup.internal.utils.TypeCache}.
+ */
+public class ResolvedSwagger {
+
+    private final Swagger2MarkupConfig config;
+    private final List<SwaggerPathOperation> pathOperations;
+    private final Map<Operation, ResolvedOperation> operations = new IdentityHashMap<>();
+
+    /**
+     * Resolves a Swagger specification.
+     *
+     * @param swagger the Swagger specification
+     * @param config  the Swagger2Markup config
+     */
+    public ResolvedSwagger(Swagger swagger, Swagger2MarkupConfig config) {
+        this.config = config;
+        Map<String, Path> paths = swagger.getPaths() != null ? swagger.getPaths() : Collections.emptyMap();
+        this.pathOperations = Collections.unmodifiableList(PathUtils.toPathOperationsList(paths,
+                getHostname(swagger, config), getBasePath(swagger, config), config.getOperationOrdering()));
+        paths.values().forEach(path -> path.getOperations().forEach(operation ->
+                operations.put(operation, new ResolvedOperation(operation, config))));
+    }
+
+    /**
+     * Returns all path operations, ordered by the configured operation ordering.
+     *
+     * @return the path operations
+     */
+    public List<SwaggerPathOperation> getPathOperations() {
+        return pathOperations;
+    }
+
+    /**
+     * Returns the ordered parameters and responses of an operation.
+     *
+     * @param operation the Swagger operation
+     * @return the resolved operation
+     */
+    public ResolvedOperation getOperation(Operation operation) {
+        ResolvedOperation resolvedOperation = operations.get(operation);
+        // An extension may render operations which are not part of the specification
+        return resolvedOperation != null ? resolvedOperation : new ResolvedOperation(operation, config);
+    }
+
+    private static String getHostname(Swagger swagger, Swagger2MarkupConfig config) {
+        return config.isHostnameEnabled() ? defaultString(swagger.getHost()) : "";
+    }
+
+    private static String getBasePath(Swagger swagger, Swagger2MarkupConfig config) {
+        return config.isBasePathPrefixEnabled() ? defaultString(swagger.getBasePath()) : "";
+    }
+}
@@ -18,6 +18,8 @@ package io.github.swagger2markup.internal.resolver;
 
 import io.github.swagger2markup.Swagger2MarkupConfig;
 import io.github.swagger2markup.Swagger2MarkupConverter;
+import io.github.swagger2markup.internal.utils.ExampleCache;
+import io.github.swagger2markup.internal.utils.TypeCache;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.vavr.Function1;
 
@@ -29,10 +31,41 @@ public abstract class DocumentResolver implements Function1<String, String> {
     Swagger2MarkupConverter.Context context;
     MarkupDocBuilder markupDocBuilder;
     Swagger2MarkupConfig config;
+    private final TypeCache typeCache;
+    private final ExampleCache exampleCache;
 
     public DocumentResolver(Swagger2MarkupConverter.SwaggerContext context) {
         this.context = context;
         this.markupDocBuilder = context.createMarkupDocBuilder();
         this.config = context.getConfig();
+        this.typeCache = context.getTypeCache();
+        this.exampleCache = context.getExampleCache();
+    }
+
+    /**
+     * Returns the config of the current conversion.
+     *
+     * @return the config
+     */
+    public Swagger2MarkupConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Returns the type cache of the current conversion, which memoizes the types resolved with this resolver.
+     *
+     * @return the type cache
+     */
+    public TypeCache getTypeCache() {
+        return typeCache;
+    }
+
+    /**
+     * Returns the example cache of the current conversion.
+     *
+     * @return the example cache
+     */
+    public ExampleCache getExampleCache() {
+        return exampleCache;
     }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentUtils {
+
+    /**
+     * Creates a fixed thread pool with daemon worker threads.
+     *
+     * @param parallelism the number of worker threads
+     * @return the ExecutorService
+     */
+    public static ExecutorService newExecutor(int parallelism) {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "swagger2markup-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(parallelism, threadFactory);
+    }
+
+    /**
+     * Submits all tasks to the executor and waits until every task has completed.
+     * If a task fails, the remaining tasks are cancelled and the failure is rethrown.
+     *
+     * @param executor the ExecutorService
+     * @param tasks    the tasks to run
+     */
+    public static void invokeAll(ExecutorService executor, List<Runnable> tasks) {
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+        tasks.forEach(task -> futures.add(executor.submit(task)));
+        getAll(futures);
+    }
+
+    /**
+     * Waits for all futures and returns their results in submission order.
+     * If a future fails, the remaining futures are cancelled and the failure is rethrown.
+     *
+     * @param futures the futures
+     * @param <T>     the result type
+     * @return the results in submission order
+     */
+    public static <T> List<T> getAll(List<? extends Future<? extends T>> futures) {
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<? extends T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the conversion", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException("Conversion failed", cause);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.github.swagger2markup.model.SwaggerPathOperation;
+import io.swagger.models.*;
+import io.swagger.models.parameters.AbstractSerializableParameter;
+import io.swagger.models.parameters.BodyParameter;
+import io.swagger.models.parameters.Parameter;
+import io.swagger.models.parameters.RefParameter;
+import io.swagger.models.properties.*;
+
+import java.util.*;
+
+/**
+ * The references between the operations and the definitions of a Swagger specification, built once per conversion.<br>
+ * The graph knows which definitions an operation or a definition references directly, which definitions are reachable
+ * from a set of operations, and which definitions reference each other in a cycle.
+ * The graph is immutable after construction, so that operations can be rendered in parallel.
+ */
+public class DefinitionReferenceGraph {
+
+    private final Map<String, Set<String>> definitionReferences = new HashMap<>();
+    private final Map<Operation, Set<String>> operationReferences = new IdentityHashMap<>();
+    private final Map<String, Set<String>> components = new HashMap<>();
+
+    /**
+     * Builds the reference graph of a Swagger specification.
+     *
+     * @param swagger the Swagger specification
+     */
+    public DefinitionReferenceGraph(Swagger swagger) {
+        Map<String, Model> definitions = swagger.getDefinitions() != null ? swagger.getDefinitions() : Collections.emptyMap();
+        definitions.forEach((name, model) -> {
+            Set<String> references = new LinkedHashSet<>();
+            collectReferences(model, references);
+            references.retainAll(definitions.keySet());
+            definitionReferences.put(name, Collections.unmodifiableSet(references));
+        });
+        if (swagger.getPaths() != null) {
+            swagger.getPaths().values().forEach(path -> path.getOperations().forEach(operation -> {
+                Set<String> references = new LinkedHashSet<>();
+                collectReferences(swagger, operation, references);
+                references.retainAll(definitions.keySet());
+                operationReferences.put(operation, Collections.unmodifiableSet(references));
+            }));
+        }
+        new ComponentFinder().findComponents();
+    }
+
+    /**
+     * Returns the definitions which an operation references directly.
+     *
+     * @param operation the Swagger operation
+     * @return the names of the referenced definitions
+     */
+    public Set<String> getReferencedDefinitions(Operation operation) {
+        return operationReferences.getOrDefault(operation, Collections.emptySet());
+    }
+
+    /**
+     * Returns the definitions which a definition references directly.
+     *
+     * @param definitionName the definition name
+     * @return the names of the referenced definitions
+     */
+    public Set<String> getReferencedDefinitions(String definitionName) {
+        return definitionReferences.getOrDefault(definitionName, Collections.emptySet());
+    }
+
+    /**
+     * Returns the definitions which are reachable from operations, directly or through other definitions.
+     *
+     * @param operations the path operations
+     * @return the names of the reachable definitions, in the order they are reached
+     */
+    public Set<String> getReachableDefinitions(Collection<SwaggerPathOperation> operations) {
+        Set<String> reachableDefinitions = new LinkedHashSet<>();
+        Deque<String> pending = new ArrayDeque<>();
+        operations.forEach(operation -> pending.addAll(getReferencedDefinitions(operation.getOperation())));
+        while (!pending.isEmpty()) {
+            String definitionName = pending.poll();
+            if (reachableDefinitions.add(definitionName)) {
+                pending.addAll(getReferencedDefinitions(definitionName));
+            }
+        }
+        return reachableDefinitions;
+    }
+
+    /**
+     * Returns the strongly connected component of a definition, i.e. all definitions which reference the definition and
+     * are referenced by it, directly or through other definitions.
+     *
+     * @param definitionName the definition name
+     * @return the names of the definitions of the component, including the definition itself
+     */
+    public Set<String> getStronglyConnectedComponent(String definitionName) {
+        return components.getOrDefault(definitionName, Collections.singleton(definitionName));
+    }
+
+    /**
+     * Checks if a definition references itself, directly or through other definitions.
+     *
+     * @param definitionName the definition name
+     * @return true if the definition is part of a reference cycle
+     */
+    public boolean isCyclic(String definitionName) {
+        return getStronglyConnectedComponent(definitionName).size() > 1
+                || getReferencedDefinitions(definitionName).contains(definitionName);
+    }
+
+    private static void collectReferences(Swagger swagger, Operation operation, Set<String> references) {
+        if (operation.getParameters() != null) {
+            for (Parameter parameter : operation.getParameters()) {
+                if (parameter instanceof RefParameter && swagger.getParameters() != null) {
+                    parameter = swagger.getParameters().get(((RefParameter) parameter).getSimpleRef());
+                }
+                if (parameter instanceof BodyParameter) {
+                    collectReferences(((BodyParameter) parameter).getSchema(), references);
+                } else if (parameter instanceof AbstractSerializableParameter) {
+                    collectReferences(((AbstractSerializableParameter) parameter).getItems(), references);
+                }
+            }
+        }
+        if (operation.getResponses() != null) {
+            for (Response response : operation.getResponses().values()) {
+                if (response instanceof RefResponse && swagger.getResponses() != null) {
+                    response = swagger.getResponses().get(((RefResponse) response).getSimpleRef());
+                }
+                if (response != null) {
+                    collectReferences(response.getResponseSchema(), references);
+                    if (response.getHeaders() != null) {
+                        response.getHeaders().values().forEach(header -> collectReferences(header, references));
+                    }
+                }
+            }
+        }
+    }
+
+    private static void collectReferences(Model model, Set<String> references) {
+        if (model instanceof RefModel) {
+            references.add(((RefModel) model).getSimpleRef());
+        } else if (model instanceof ComposedModel) {
+            if (((ComposedModel) model).getAllOf() != null) {
+                ((ComposedModel) model).getAllOf().forEach(allOf -> collectReferences(allOf, references));
+            }
+        } else if (model instanceof ArrayModel) {
+            collectReferences(((ArrayModel) model).getItems(), references);
+        } else if (model instanceof ModelImpl) {
+            collectReferences(((ModelImpl) model).getAdditionalProperties(), references);
+        }
+        if (model != null && model.getProperties() != null) {
+            model.getProperties().values().forEach(property -> collectReferences(property, references));
+        }
+    }
+
+    private static void collectReferences(Property property, Set<String> references) {
+        if (property instanceof RefProperty) {
+            references.add(((RefProperty) property).getSimpleRef());
+        } else if (property instanceof ArrayProperty) {
+            collectReferences(((ArrayProperty) property).getItems(), references);
+        } else if (property instanceof MapProperty) {
+            collectReferences(((MapProperty) property).getAdditionalProperties(), references);
+        } else if (property instanceof ObjectProperty) {
+            if (((ObjectProperty) property).getProperties() != null) {
+                ((ObjectProperty) property).getProperties().values().forEach(child -> collectReferences(child, references));
+            }
+        } else if (property instanceof ComposedProperty) {
+            if (((ComposedProperty) property).getAllOf() != null) {
+                ((ComposedProperty) property).getAllOf().forEach(allOf -> collectReferences(allOf, references));
+            }
+        }
+    }
+
+    /**
+     * Finds the strongly connected components of the definitions with Tarjan's algorithm.
+     */
+    private class ComponentFinder {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final Map<String, Integer> lowLinks = new HashMap<>();
+        private final Deque<String> stack = new ArrayDeque<>();
+        private final Set<String> onStack = new HashSet<>();
+
+        void findComponents() {
+            definitionReferences.keySet().forEach(definitionName -> {
+                if (!indexes.containsKey(definitionName))
+                    visit(definitionName);
+            });
+        }
+
+        private void visit(String definitionName) {
+            int index = indexes.size();
+            indexes.put(definitionName, index);
+            lowLinks.put(definitionName, index);
+            stack.push(definitionName);
+            onStack.add(definitionName);
+
+            for (String reference : getReferencedDefinitions(definitionName)) {
+                if (!indexes.containsKey(reference)) {
+                    visit(reference);
+                    lowLinks.put(definitionName, Math.min(lowLinks.get(definitionName), lowLinks.get(reference)));
+                } else if (onStack.contains(reference)) {
+                    lowLinks.put(definitionName, Math.min(lowLinks.get(definitionName), indexes.get(reference)));
+                }
+            }
+
+            if (lowLinks.get(definitionName) == index) {
+                Set<String> component = new LinkedHashSet<>();
+                String member;
+                do {
+                    member = stack.pop();
+                    onStack.remove(member);
+                    component.add(member);
+                } while (!member.equals(definitionName));
+                Set<String> unmodifiableComponent = Collections.unmodifiableSet(component);
+                component.forEach(name -> components.put(name, unmodifiableComponent));
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes the examples generated for definitions during the current conversion, so that a definition referenced by
+ * many operations and properties is generated only once.<br>
+ * A generated example depends on the definition, on its nesting depth and on the recursion depths of the definitions
+ * which are being generated, so all of them are part of the key. Generated examples are shared and must not be modified.
+ * The cache is thread-safe, so that operations can be rendered in parallel.
+ */
+public class ExampleCache {
+
+    private final Map<Key, Entry> examples = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieves the example of a definition, generating it only on the first request with the same nesting depth and
+     * recursion depths.<br>
+     * The changes the generation applies to {@code refStack} are recorded and applied again when the example is reused.
+     *
+     * @param definitionName the definition name
+     * @param depth          the nesting depth of the example
+     * @param refStack       the recursion depths of the definitions which are being generated
+     * @param generator      generates the example, using and updating {@code refStack}
+     * @return the example
+     */
+    public Object getExample(String definitionName, int depth, Map<String, Integer> refStack, Supplier<Object> generator) {
+        Key key = new Key(definitionName, depth, refStack);
+        Entry entry = examples.get(key);
+        if (entry == null) {
+            Map<String, Integer> previousRefStack = new HashMap<>(refStack);
+            Object example = generator.get();
+            entry = new Entry(example, refStackChanges(previousRefStack, refStack));
+            examples.putIfAbsent(key, entry);
+        } else {
+            entry.refStackChanges.forEach((name, change) -> refStack.merge(name, change, Integer::sum));
+        }
+        return entry.example;
+    }
+
+    private static Map<String, Integer> refStackChanges(Map<String, Integer> previousRefStack, Map<String, Integer> refStack) {
+        Map<String, Integer> changes = new HashMap<>();
+        refStack.forEach((name, depth) -> {
+            int change = depth - previousRefStack.getOrDefault(name, 0);
+            if (change != 0)
+                changes.put(name, change);
+        });
+        return changes;
+    }
+
+    private static class Key {
+        private final String definitionName;
+        private final int depth;
+        private final Map<String, Integer> refStack = new HashMap<>();
+
+        Key(String definitionName, int depth, Map<String, Integer> refStack) {
+            this.definitionName = definitionName;
+            this.depth = depth;
+            refStack.forEach((name, recursionDepth) -> {
+                if (recursionDepth != 0)
+                    this.refStack.put(name, recursionDepth);
+            });
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return depth == key.depth && definitionName.equals(key.definitionName) && refStack.equals(key.refStack);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(definitionName, depth, refStack);
+        }
+    }
+
+    private static class Entry {
+        private final Object example;
+        private final Map<String, Integer> refStackChanges;
+
+        Entry(Object example, Map<String, Integer> refStackChanges) {
+            this.example = example instanceof Map ? Collections.unmodifiableMap((Map<?, ?>) example) : example;
+            this.refStackChanges = refStackChanges;
+        }
+    }
+}
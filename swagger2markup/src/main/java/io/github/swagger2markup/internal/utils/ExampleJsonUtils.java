@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.NullNode;
+import io.swagger.util.Json;
+
+/**
+ * Serializes examples with the Swagger {@link Json#mapper()}.<br>
+ * The writers are created once and shared, because ObjectWriter instances are immutable and thread-safe.
+ */
+public final class ExampleJsonUtils {
+
+    private static final ObjectWriter WRITER = Json.mapper().writer();
+    private static final ObjectWriter PRETTY_WRITER = Json.mapper().writer(new DefaultPrettyPrinter());
+
+    private ExampleJsonUtils() {
+    }
+
+    /**
+     * Converts an example into a JsonNode, without serializing it into a String first.
+     *
+     * @param example the example
+     * @return the JsonNode of the example
+     */
+    public static JsonNode toJsonNode(Object example) {
+        if (example == null)
+            return NullNode.getInstance();
+        try {
+            return Json.mapper().valueToTree(example);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Failed to read example", e);
+        }
+    }
+
+    /**
+     * Serializes an example into compact JSON.
+     *
+     * @param example the example
+     * @return the JSON
+     */
+    public static String toJson(Object example) {
+        try {
+            return WRITER.writeValueAsString(example);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to write example", e);
+        }
+    }
+
+    /**
+     * Serializes an example into pretty printed JSON, like {@link Json#pretty(Object)}.
+     *
+     * @param example the example
+     * @return the pretty printed JSON
+     */
+    public static String pretty(Object example) {
+        try {
+            return PRETTY_WRITER.writeValueAsString(example);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to write example", e);
+        }
+    }
+}
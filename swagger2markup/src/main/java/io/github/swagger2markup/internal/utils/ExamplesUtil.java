@@ -16,6 +16,7 @@
 
 package io.github.swagger2markup.internal.utils;
 
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import io.github.swagger2markup.internal.adapter.ParameterAdapter;
 import io.github.swagger2markup.internal.adapter.PropertyAdapter;
 import io.github.swagger2markup.internal.resolver.DocumentResolver;
@@ -31,7 +32,11 @@ import io.swagger.models.utils.PropertyModelConverter;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +44,7 @@ import java.util.Map;
 public class ExamplesUtil {
 
     private static final Integer MAX_RECURSION_TO_DISPLAY = 2;
+    private static final String TRUNCATION_MARKER = "...";
 
     /**
      * Generates a Map of response examples
@@ -66,13 +72,13 @@ public class ExamplesUtil {
 
                             if (example == null && schema instanceof RefProperty) {
                                 String simpleRef = ((RefProperty) schema).getSimpleRef();
-                                example = generateExampleForRefModel(generateMissingExamples, simpleRef, definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>());
+                                example = generateExampleForRefModel(generateMissingExamples, simpleRef, definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>(), 0);
                             }
                             if (example == null && schema instanceof ArrayProperty && generateMissingExamples) {
-                                example = generateExampleForArrayProperty((ArrayProperty) schema, definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>());
+                                example = generateExampleForArrayProperty((ArrayProperty) schema, definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>(), 0);
                             }
                             if (example == null && schema instanceof ObjectProperty && generateMissingExamples) {
-                                example = exampleMapForProperties(((ObjectProperty) schema).getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>());
+                                example = exampleMapForProperties(((ObjectProperty) schema).getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>(), 0);
                             }
                             if (example == null && generateMissingExamples) {
                                 example = PropertyAdapter.generateExample(schema, markupDocBuilder);
@@ -106,7 +112,7 @@ public class ExamplesUtil {
         DocumentResolver definitionDocumentResolver = requestPathGenerator.getDefinitionDocumentResolver();
 
         Operation operation = requestPathGenerator.getOperation().getOperation();
-        List<Parameter> parameters = operation.getParameters();
+        List<Parameter> parameters = requestPathGenerator.getContext().getResolvedSwagger().getOperation(operation).getParameters();
         Map<String, Object> examples = new LinkedHashMap<>();
 
         // Path example should always be included (if generateMissingExamples):
@@ -122,7 +128,7 @@ public class ExamplesUtil {
                     Model schema = ((BodyParameter) parameter).getSchema();
                     if (schema instanceof RefModel) {
                         String simpleRef = ((RefModel) schema).getSimpleRef();
-                        example = generateExampleForRefModel(generateMissingExamples, simpleRef, definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>());
+                        example = generateExampleForRefModel(generateMissingExamples, simpleRef, definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>(), 0);
                     } else if (generateMissingExamples) {
                         if (schema instanceof ComposedModel) {
                             ObjectType objectType = (ObjectType) ModelUtils.getType(schema, definitions, definitionDocumentResolver);
@@ -132,15 +138,16 @@ public class ExamplesUtil {
                                         definitions,
                                         definitionDocumentResolver,
                                         markupDocBuilder,
-                                        new HashMap<>()
+                                        new HashMap<>(),
+                                        0
                                 );
                             }
                         } else if (schema instanceof ArrayModel) {
-                            example = generateExampleForArrayModel((ArrayModel) schema, definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>());
+                            example = generateExampleForArrayModel((ArrayModel) schema, definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>(), 0);
                         } else {
                             example = schema.getExample();
                             if (example == null) {
-                                example = exampleMapForProperties(schema.getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>());
+                                example = exampleMapForProperties(schema.getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>(), 0);
                             }
                         }
                     }
@@ -182,7 +189,7 @@ public class ExamplesUtil {
                 }
             } else if (parameter instanceof RefParameter) {
                 String simpleRef = ((RefParameter) parameter).getSimpleRef();
-                example = generateExampleForRefModel(generateMissingExamples, simpleRef, definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>());
+                example = generateExampleForRefModel(generateMissingExamples, simpleRef, definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>(), 0);
             }
 
             if (example != null)
@@ -222,42 +229,51 @@ public class ExamplesUtil {
     }
 
     /**
-     * Generates an example object from a simple reference
+     * Generates an example object from a simple reference.<br>
+     * Generated examples are memoized for the current conversion, see {@link ExampleCache}.
      *
      * @param generateMissingExamples specifies the missing examples should be generated
      * @param simpleRef               the simple reference string
      * @param definitions             the map of definitions
      * @param markupDocBuilder        the markup builder
      * @param refStack                map to detect cyclic references
+     * @param depth                   the nesting depth of the example object
      * @return returns an Object or Map of examples
      */
-    private static Object generateExampleForRefModel(boolean generateMissingExamples, String simpleRef, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, Map<String, Integer> refStack) {
+    private static Object generateExampleForRefModel(boolean generateMissingExamples, String simpleRef, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, Map<String, Integer> refStack, int depth) {
         Model model = definitions.get(simpleRef);
         Object example = null;
         if (model != null) {
-            example = model.getExample();
+            example = limitArrayItems(model.getExample(), definitionDocumentResolver);
             if (example == null && generateMissingExamples) {
-                if (!refStack.containsKey(simpleRef)) {
-                    refStack.put(simpleRef, 1);
-                } else {
-                    refStack.put(simpleRef, refStack.get(simpleRef) + 1);
-                }
-                if (refStack.get(simpleRef) <= MAX_RECURSION_TO_DISPLAY) {
-                    if (model instanceof ComposedModel) {
-                        //FIXME: getProperties() may throw NullPointerException
-                        example = exampleMapForProperties(((ObjectType) ModelUtils.getType(model, definitions, definitionDocumentResolver)).getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>());
-                    } else {
-                        example = exampleMapForProperties(model.getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, refStack);
-                    }
-                } else {
-                    return "...";
-                }
-                refStack.put(simpleRef, refStack.get(simpleRef) - 1);
+                example = definitionDocumentResolver.getExampleCache().getExample(simpleRef, depth, refStack,
+                        () -> generateExampleForModel(simpleRef, model, definitions, definitionDocumentResolver, markupDocBuilder, refStack, depth));
             }
         }
         return example;
     }
 
+    private static Object generateExampleForModel(String simpleRef, Model model, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, Map<String, Integer> refStack, int depth) {
+        Object example;
+        if (!refStack.containsKey(simpleRef)) {
+            refStack.put(simpleRef, 1);
+        } else {
+            refStack.put(simpleRef, refStack.get(simpleRef) + 1);
+        }
+        if (refStack.get(simpleRef) <= MAX_RECURSION_TO_DISPLAY) {
+            if (model instanceof ComposedModel) {
+                //FIXME: getProperties() may throw NullPointerException
+                example = exampleMapForProperties(((ObjectType) ModelUtils.getDefinitionType(simpleRef, definitions, definitionDocumentResolver)).getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>(), depth);
+            } else {
+                example = exampleMapForProperties(model.getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, refStack, depth);
+            }
+        } else {
+            return "...";
+        }
+        refStack.put(simpleRef, refStack.get(simpleRef) - 1);
+        return example;
+    }
+
     private static Map<String, Property> getPropertiesForComposedModel(ComposedModel model, Map<String, Model> definitions) {
         //TODO: Unused method, make sure this is never used and then remove it.
         Map<String, Property> combinedProperties;
@@ -286,24 +302,36 @@ public class ExamplesUtil {
 
     /**
      * Generates a map of examples from a map of properties. If defined examples are found, those are used. Otherwise,
-     * examples are generated from the type.
+     * examples are generated from the type.<br>
+     * The map is replaced with a truncation marker if it is nested deeper than the configured maximum depth, and the
+     * properties beyond the configured maximum number are replaced with a single truncation marker entry.
      *
      * @param properties       the map of properties
      * @param definitions      the map of definitions
      * @param markupDocBuilder the markup builder
      * @param refStack         map to detect cyclic references
-     * @return a Map of examples
+     * @param depth            the nesting depth of the example object
+     * @return a Map of examples, or a truncation marker
      */
-    private static Map<String, Object> exampleMapForProperties(Map<String, Property> properties, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, Map<String, Integer> refStack) {
+    private static Object exampleMapForProperties(Map<String, Property> properties, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, Map<String, Integer> refStack, int depth) {
+        int maxDepth = definitionDocumentResolver.getConfig().getGeneratedExamplesMaxDepth();
+        if (maxDepth > 0 && depth >= maxDepth) {
+            return TRUNCATION_MARKER;
+        }
+        int maxProperties = definitionDocumentResolver.getConfig().getGeneratedExamplesMaxProperties();
         Map<String, Object> exampleMap = new LinkedHashMap<>();
         if (properties != null) {
             for (Map.Entry<String, Property> property : properties.entrySet()) {
-                Object exampleObject = property.getValue().getExample();
+                if (maxProperties > 0 && exampleMap.size() >= maxProperties) {
+                    exampleMap.put(TRUNCATION_MARKER, TRUNCATION_MARKER);
+                    break;
+                }
+                Object exampleObject = limitArrayItems(property.getValue().getExample(), definitionDocumentResolver);
                 if (exampleObject == null) {
                     if (property.getValue() instanceof RefProperty) {
-                        exampleObject = generateExampleForRefModel(true, ((RefProperty) property.getValue()).getSimpleRef(), definitions, definitionDocumentResolver, markupDocBuilder, refStack);
+                        exampleObject = generateExampleForRefModel(true, ((RefProperty) property.getValue()).getSimpleRef(), definitions, definitionDocumentResolver, markupDocBuilder, refStack, depth + 1);
                     } else if (property.getValue() instanceof ArrayProperty) {
-                        exampleObject = generateExampleForArrayProperty((ArrayProperty) property.getValue(), definitions, definitionDocumentResolver, markupDocBuilder, refStack);
+                        exampleObject = generateExampleForArrayProperty((ArrayProperty) property.getValue(), definitions, definitionDocumentResolver, markupDocBuilder, refStack, depth + 1);
                     } else if (property.getValue() instanceof MapProperty) {
                         exampleObject = generateExampleForMapProperty((MapProperty) property.getValue(), markupDocBuilder);
                     }
@@ -331,14 +359,14 @@ public class ExamplesUtil {
         return exampleMap;
     }
 
-    private static Object generateExampleForArrayModel(ArrayModel model, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, Map<String, Integer> refStack) {
+    private static Object generateExampleForArrayModel(ArrayModel model, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, Map<String, Integer> refStack, int depth) {
         if (model.getExample() != null) {
-            return model.getExample();
+            return limitArrayItems(model.getExample(), definitionDocumentResolver);
         } else if (model.getProperties() != null) {
-            return new Object[]{exampleMapForProperties(model.getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, refStack)};
+            return new Object[]{exampleMapForProperties(model.getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, refStack, depth)};
         } else {
             Property itemProperty = model.getItems();
-            return getExample(itemProperty, definitions, definitionDocumentResolver, markupDocBuilder, refStack);
+            return getExample(itemProperty, definitions, definitionDocumentResolver, markupDocBuilder, refStack, depth);
         }
     }
 
@@ -348,11 +376,12 @@ public class ExamplesUtil {
      * @param value            ArrayProperty
      * @param definitions      map of definitions
      * @param markupDocBuilder the markup builder
+     * @param depth            the nesting depth of the items
      * @return array of Object
      */
-    private static Object[] generateExampleForArrayProperty(ArrayProperty value, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, Map<String, Integer> refStack) {
+    private static Object[] generateExampleForArrayProperty(ArrayProperty value, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, Map<String, Integer> refStack, int depth) {
         Property property = value.getItems();
-        return getExample(property, definitions, definitionDocumentResolver, markupDocBuilder, refStack);
+        return getExample(property, definitions, definitionDocumentResolver, markupDocBuilder, refStack, depth);
     }
 
     /**
@@ -363,6 +392,7 @@ public class ExamplesUtil {
      * @param definitionDocumentResolver DocumentResolver
      * @param markupDocBuilder           the markup builder
      * @param refStack                   reference stack
+     * @param depth                      the nesting depth of the items
      * @return array of Object
      */
     private static Object[] getExample(
@@ -370,18 +400,57 @@ public class ExamplesUtil {
             Map<String, Model> definitions,
             DocumentResolver definitionDocumentResolver,
             MarkupDocBuilder markupDocBuilder,
-            Map<String, Integer> refStack) {
+            Map<String, Integer> refStack,
+            int depth) {
         if (property.getExample() != null) {
-            return new Object[]{property.getExample()};
+            return new Object[]{limitArrayItems(property.getExample(), definitionDocumentResolver)};
         } else if (property instanceof ArrayProperty) {
-            return new Object[]{generateExampleForArrayProperty((ArrayProperty) property, definitions, definitionDocumentResolver, markupDocBuilder, refStack)};
+            return new Object[]{generateExampleForArrayProperty((ArrayProperty) property, definitions, definitionDocumentResolver, markupDocBuilder, refStack, depth)};
         } else if (property instanceof RefProperty) {
-            return new Object[]{generateExampleForRefModel(true, ((RefProperty) property).getSimpleRef(), definitions, definitionDocumentResolver, markupDocBuilder, refStack)};
+            return new Object[]{generateExampleForRefModel(true, ((RefProperty) property).getSimpleRef(), definitions, definitionDocumentResolver, markupDocBuilder, refStack, depth)};
         } else {
             return new Object[]{PropertyAdapter.generateExample(property, markupDocBuilder)};
         }
     }
 
+    /**
+     * Limits an array example defined in the specification to the configured maximum number of items. The items beyond
+     * the maximum are replaced with a single truncation marker item.
+     *
+     * @param example                    the example
+     * @param definitionDocumentResolver DocumentResolver
+     * @return the limited example, or the example itself if it is not an array or does not exceed the maximum
+     */
+    private static Object limitArrayItems(Object example, DocumentResolver definitionDocumentResolver) {
+        int maxArrayItems = definitionDocumentResolver.getConfig().getGeneratedExamplesMaxArrayItems();
+        if (maxArrayItems <= 0) {
+            return example;
+        }
+        Iterator<?> items;
+        int size;
+        if (example instanceof Collection) {
+            items = ((Collection<?>) example).iterator();
+            size = ((Collection<?>) example).size();
+        } else if (example instanceof Object[]) {
+            items = Arrays.asList((Object[]) example).iterator();
+            size = ((Object[]) example).length;
+        } else if (example instanceof ArrayNode) {
+            items = ((ArrayNode) example).elements();
+            size = ((ArrayNode) example).size();
+        } else {
+            return example;
+        }
+        if (size <= maxArrayItems) {
+            return example;
+        }
+        List<Object> limitedItems = new ArrayList<>(maxArrayItems + 1);
+        while (limitedItems.size() < maxArrayItems) {
+            limitedItems.add(items.next());
+        }
+        limitedItems.add(TRUNCATION_MARKER);
+        return limitedItems;
+    }
+
     /**
      * Generates examples for string properties or parameters with given format
      *
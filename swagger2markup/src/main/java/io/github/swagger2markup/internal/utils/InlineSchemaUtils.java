@@ -28,6 +28,7 @@ public class InlineSchemaUtils {
      * The returned RefType point to the new inlined type which is added to the {@code inlineDefinitions} collection.<br>
      * The function is recursive and support collections (ArrayType and MapType).<br>
      * The function is transparent : {@code type} is returned as-is if type is not inlinable or if !config.isInlineSchemaEnabled().<br>
+     * {@code type} itself is never modified, because it can be shared through the {@link TypeCache}.<br>
      *
      * @param type              type to inline
      * @param name              name of the created inline ObjectType
@@ -40,15 +41,25 @@ public class InlineSchemaUtils {
             return createInlineObjectType(type, name, uniqueName, inlineDefinitions);
         } else if (type instanceof ArrayType) {
             ArrayType arrayType = (ArrayType) type;
-            arrayType.setOfType(createInlineType(arrayType.getOfType(), name, uniqueName, inlineDefinitions));
+            Type ofType = createInlineType(arrayType.getOfType(), name, uniqueName, inlineDefinitions);
+            if (ofType == arrayType.getOfType())
+                return arrayType;
 
-            return arrayType;
+            ArrayType inlineArrayType = new ArrayType(arrayType.getName(), ofType, arrayType.getCollectionFormat());
+            inlineArrayType.setUniqueName(arrayType.getUniqueName());
+            return inlineArrayType;
         } else if (type instanceof MapType) {
             MapType mapType = (MapType) type;
-            if (mapType.getValueType() instanceof ObjectType)
-                mapType.setValueType(createInlineType(mapType.getValueType(), name, uniqueName, inlineDefinitions));
+            if (!(mapType.getValueType() instanceof ObjectType))
+                return mapType;
 
-            return mapType;
+            Type valueType = createInlineType(mapType.getValueType(), name, uniqueName, inlineDefinitions);
+            if (valueType == mapType.getValueType())
+                return mapType;
+
+            MapType inlineMapType = new MapType(mapType.getName(), valueType);
+            inlineMapType.setUniqueName(mapType.getUniqueName());
+            return inlineMapType;
         } else {
             return type;
         }
@@ -59,7 +70,7 @@ public class InlineSchemaUtils {
             ObjectType objectType = (ObjectType) type;
             if (isNotEmpty(objectType.getProperties())) {
                 if (objectType.getName() == null) {
-                    objectType.setName(name);
+                    objectType = new ObjectType(name, objectType.getPolymorphism(), objectType.getProperties());
                     objectType.setUniqueName(uniqueName);
                 }
                 inlineDefinitions.add(objectType);
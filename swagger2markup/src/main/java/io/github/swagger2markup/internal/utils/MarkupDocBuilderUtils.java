@@ -21,6 +21,11 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.io.StringReader;
 
+/**
+ * Renders inline markup into Strings, e.g. for table cells.<br>
+ * Except for {@link #copyMarkupDocBuilder(MarkupDocBuilder)}, the methods render into the scratch builder of the given builder,
+ * see {@link MarkupDocBuilder#fragment()}.
+ */
 public class MarkupDocBuilderUtils {
 
     public static MarkupDocBuilder copyMarkupDocBuilder(MarkupDocBuilder markupDocBuilder) {
@@ -31,7 +36,7 @@ public class MarkupDocBuilderUtils {
         if (StringUtils.isBlank(text)) {
             return StringUtils.EMPTY;
         }
-        return copyMarkupDocBuilder(markupDocBuilder).literalText(escapeText(text)).toString();
+        return markupDocBuilder.fragment().literalText(escapeText(text)).toString();
     }
 
     private static String escapeText(String text) {
@@ -45,18 +50,18 @@ public class MarkupDocBuilderUtils {
         if (StringUtils.isBlank(text)) {
             return StringUtils.EMPTY;
         }
-        return copyMarkupDocBuilder(markupDocBuilder).boldText(escapeText(text)).toString();
+        return markupDocBuilder.fragment().boldText(escapeText(text)).toString();
     }
 
     public static String italicText(MarkupDocBuilder markupDocBuilder, String text) {
         if (StringUtils.isBlank(text)) {
             return StringUtils.EMPTY;
         }
-        return copyMarkupDocBuilder(markupDocBuilder).italicText(escapeText(text)).toString();
+        return markupDocBuilder.fragment().italicText(escapeText(text)).toString();
     }
 
     public static String crossReference(MarkupDocBuilder markupDocBuilder, String document, String anchor, String text) {
-        return copyMarkupDocBuilder(markupDocBuilder)
+        return markupDocBuilder.fragment()
                 .crossReference(document, anchor, text).toString();
     }
 
@@ -64,6 +69,6 @@ public class MarkupDocBuilderUtils {
         if (StringUtils.isBlank(markupText)) {
             return StringUtils.EMPTY;
         }
-        return copyMarkupDocBuilder(markupDocBuilder).importMarkup(new StringReader(markupText), swaggerMarkupLanguage).toString().trim();
+        return markupDocBuilder.fragment().importMarkup(new StringReader(markupText), swaggerMarkupLanguage).toString().trim();
     }
 }
@@ -15,7 +15,6 @@
  */
 package io.github.swagger2markup.internal.utils;
 
-import com.google.common.collect.ImmutableMap;
 import io.github.swagger2markup.internal.adapter.PropertyAdapter;
 import io.github.swagger2markup.internal.resolver.DocumentResolver;
 import io.github.swagger2markup.internal.type.*;
@@ -48,7 +47,8 @@ public final class ModelUtils {
     }
 
     /**
-     * Retrieves the type of a model, or otherwise null
+     * Retrieves the type of a model, or otherwise null.<br>
+     * The types of referenced definitions are memoized for the current conversion, see {@link TypeCache}.
      *
      * @param definitions                a map of RefModel name keys to models
      * @param model                      the model
@@ -102,7 +102,7 @@ public final class ModelUtils {
 
                         Map<String, Property> innerModelProperties = ((ObjectType) innerModelType).getProperties();
                         if (innerModelProperties != null)
-                            allProperties.putAll(ImmutableMap.copyOf(innerModelProperties));
+                            allProperties.putAll(innerModelProperties);
                     }
                 }
             }
@@ -114,12 +114,10 @@ public final class ModelUtils {
 
             Type refType = new ObjectType(refName, null);
             if (definitions.containsKey(refName)) {
-                refType = getType(definitions.get(refName), definitions, definitionDocumentResolver);
-                refType.setName(refName);
-                refType.setUniqueName(refName);
+                refType = getDefinitionType(refName, definitions, definitionDocumentResolver);
             }
 
-            return new RefType(definitionDocumentResolver.apply(refName), refType);
+            return new RefType(definitionDocumentResolver.getTypeCache().getDocument(refName, definitionDocumentResolver), refType);
         } else if (model instanceof ArrayModel) {
             ArrayModel arrayModel = ((ArrayModel) model);
 
@@ -128,4 +126,22 @@ public final class ModelUtils {
 
         return null;
     }
+
+    /**
+     * Retrieves the type of a definition, named after the definition.<br>
+     * The type is resolved once per conversion and definition document resolver, see {@link TypeCache}, and must not be modified.
+     *
+     * @param definitionName             the name of the definition
+     * @param definitions                a map of RefModel name keys to models, which must contain {@code definitionName}
+     * @param definitionDocumentResolver the definition document resolver
+     * @return the type of the definition
+     */
+    public static Type getDefinitionType(String definitionName, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver) {
+        return definitionDocumentResolver.getTypeCache().getDefinitionType(definitionName, definitionDocumentResolver, name -> {
+            Type definitionType = getType(definitions.get(name), definitions, definitionDocumentResolver);
+            definitionType.setName(name);
+            definitionType.setUniqueName(name);
+            return definitionType;
+        });
+    }
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.swagger2markup.Language;
+import io.github.swagger2markup.MarkupLanguage;
+import io.github.swagger2markup.Schema2MarkupProperties;
+import io.github.swagger2markup.config.Schema2MarkupConfig;
+import io.swagger.models.Model;
+import io.swagger.models.Swagger;
+import io.swagger.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the hashes of the inputs of separated operation and definition files, so that unchanged files can be skipped
+ * by subsequent conversions into the same output folder.<br>
+ * The hash of a file covers its source object, all definitions it references transitively, the Swagger specification
+ * without its paths and definitions, and the configuration.
+ */
+public class OutputManifest {
+
+    public static final String MANIFEST_FILE_NAME = ".swagger2markup-manifest";
+
+    private static final Logger logger = LoggerFactory.getLogger(OutputManifest.class);
+    private static final Pattern DEFINITION_REF_PATTERN = Pattern.compile("\"\\$ref\"\\s*:\\s*\"#/definitions/([^\"]+)\"");
+
+    private final Path outputDirectory;
+    private final Map<String, Model> definitions;
+    private final String fingerprint;
+    private final Properties previousHashes;
+    private final Map<String, String> currentHashes = new ConcurrentHashMap<>();
+
+    private OutputManifest(Path outputDirectory, Map<String, Model> definitions, String fingerprint, Properties previousHashes) {
+        this.outputDirectory = outputDirectory;
+        this.definitions = definitions != null ? definitions : Collections.emptyMap();
+        this.fingerprint = fingerprint;
+        this.previousHashes = previousHashes;
+    }
+
+    /**
+     * Loads the manifest of the previous conversion from {@code outputDirectory}, if any.
+     *
+     * @param outputDirectory the output directory
+     * @param config          the configuration of the current conversion
+     * @param markupLanguage  the markup language of the current conversion, which may differ from the one of the config
+     * @param language        the language of the labels of the current conversion, which may differ from the one of the config
+     * @param swagger         the Swagger specification of the current conversion
+     * @return the manifest
+     */
+    public static OutputManifest load(Path outputDirectory, Schema2MarkupConfig config, MarkupLanguage markupLanguage,
+                                      Language language, Swagger swagger) {
+        Properties previousHashes = new Properties();
+        Path manifestFile = outputDirectory.resolve(MANIFEST_FILE_NAME);
+        if (Files.isRegularFile(manifestFile)) {
+            try (Reader reader = Files.newBufferedReader(manifestFile, StandardCharsets.UTF_8)) {
+                previousHashes.load(reader);
+            } catch (IOException e) {
+                logger.warn("Failed to read manifest '{}', all separated files are regenerated", manifestFile, e);
+                previousHashes.clear();
+            }
+        }
+
+        ObjectNode globals = Json.mapper().valueToTree(swagger);
+        globals.remove(Arrays.asList("paths", "definitions"));
+        String fingerprint = configFingerprint(config) + "renderedMarkupLanguage=" + markupLanguage + '\n'
+                + "renderedLanguage=" + language + '\n' + globals.toString();
+        return new OutputManifest(outputDirectory, swagger.getDefinitions(), fingerprint, previousHashes);
+    }
+
+    /**
+     * Records the hash of the inputs of {@code fileName} and checks whether the file can be kept as it is.
+     *
+     * @param fileName the file name, relative to the output directory
+     * @param source   the Swagger object the file is rendered from
+     * @return true if the file exists and was rendered from the same inputs by the previous conversion
+     */
+    public boolean isUpToDate(String fileName, Object source) {
+        String hash = hash(source);
+        currentHashes.put(fileName, hash);
+        return hash.equals(previousHashes.getProperty(fileName))
+                && Files.isRegularFile(outputDirectory.resolve(fileName));
+    }
+
+    /**
+     * Writes the hashes recorded by the current conversion to the manifest file.
+     */
+    public void save() {
+        Properties hashes = new Properties();
+        hashes.putAll(currentHashes);
+        Path manifestFile = outputDirectory.resolve(MANIFEST_FILE_NAME);
+        try {
+            Files.createDirectories(outputDirectory);
+            try (Writer writer = Files.newBufferedWriter(manifestFile, StandardCharsets.UTF_8)) {
+                hashes.store(writer, "Swagger2Markup incremental manifest");
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write manifest", e);
+        }
+    }
+
+    private String hash(Object source) {
+        MessageDigest digest = newDigest();
+        digest.update(fingerprint.getBytes(StandardCharsets.UTF_8));
+
+        Set<String> visited = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>();
+        update(digest, toJson(source), pending);
+        while (!pending.isEmpty()) {
+            String definitionName = pending.poll();
+            if (visited.add(definitionName)) {
+                digest.update(definitionName.getBytes(StandardCharsets.UTF_8));
+                update(digest, toJson(definitions.get(definitionName)), pending);
+            }
+        }
+        return String.format("%064x", new BigInteger(1, digest.digest()));
+    }
+
+    private static void update(MessageDigest digest, String json, Deque<String> pending) {
+        digest.update(json.getBytes(StandardCharsets.UTF_8));
+        Matcher matcher = DEFINITION_REF_PATTERN.matcher(json);
+        while (matcher.find()) {
+            pending.add(matcher.group(1));
+        }
+    }
+
+    private static String toJson(Object object) {
+        try {
+            return Json.mapper().writeValueAsString(object);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize " + object, e);
+        }
+    }
+
+    /**
+     * Builds a fingerprint from all configuration values.<br>
+     * Comparators and extension properties have no stable representation and are identified by the corresponding
+     * {@code OrderBy} values only.
+     */
+    private static String configFingerprint(Schema2MarkupConfig config) {
+        StringBuilder fingerprint = new StringBuilder();
+        Method[] methods = Schema2MarkupConfig.class.getMethods();
+        Arrays.sort(methods, Comparator.comparing(Method::getName));
+        for (Method method : methods) {
+            if (method.getParameterCount() > 0
+                    || Comparator.class.isAssignableFrom(method.getReturnType())
+                    || Schema2MarkupProperties.class.isAssignableFrom(method.getReturnType())) {
+                continue;
+            }
+            try {
+                fingerprint.append(method.getName()).append('=').append(method.invoke(config)).append('\n');
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new RuntimeException("Failed to read configuration value " + method.getName(), e);
+            }
+        }
+        return fingerprint.toString();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -15,13 +15,18 @@
  */
 package io.github.swagger2markup.internal.utils;
 
+import io.github.swagger2markup.GroupBy;
+import io.github.swagger2markup.Swagger2MarkupConfig;
 import io.github.swagger2markup.model.PathOperation;
 import io.github.swagger2markup.model.SwaggerPathOperation;
 import io.swagger.models.HttpMethod;
 import io.swagger.models.Operation;
 import io.swagger.models.Path;
+import io.swagger.models.Swagger;
+import io.swagger.models.Tag;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
@@ -84,6 +89,29 @@ public class PathUtils {
         return pathOperations;
     }
 
+    /**
+     * Returns the operations which are rendered into the paths document. Operations grouped by tags are rendered only if
+     * one of their tags is declared, and operations grouped by regex only if their path matches the header regex.
+     *
+     * @param swagger        the Swagger specification
+     * @param pathOperations all path operations of the Swagger specification
+     * @param config         the Swagger2Markup config
+     * @return the rendered path operations
+     */
+    public static List<SwaggerPathOperation> toRenderedPathOperationsList(Swagger swagger, List<SwaggerPathOperation> pathOperations,
+                                                                        Swagger2MarkupConfig config) {
+        pathOperations = new ArrayList<>(pathOperations);
+        if (config.getPathsGroupedBy() == GroupBy.TAGS) {
+            Set<String> tagNames = swagger.getTags() == null ? Collections.emptySet()
+                    : swagger.getTags().stream().map(Tag::getName).collect(Collectors.toSet());
+            pathOperations.removeIf(operation -> operation.getOperation().getTags() == null
+                    || operation.getOperation().getTags().stream().noneMatch(tagNames::contains));
+        } else if (config.getPathsGroupedBy() == GroupBy.REGEX && config.getHeaderPattern() != null) {
+            pathOperations.removeIf(operation -> RegexUtils.getHeader(operation.getPath(), config.getHeaderPattern()) == null);
+        }
+        return pathOperations;
+    }
+
     /**
      * Converts a Swagger path into a PathOperation.
      *
@@ -61,14 +61,13 @@ public class RegexUtils {
 
 
         for (SwaggerPathOperation operation : allOperations) {
-            String path = operation.getPath();
-            Matcher m = headerPattern.matcher(path);
+            String header = getHeader(operation.getPath(), headerPattern);
 
-            if (m.matches() && m.group(1) != null) {
+            if (header != null) {
                 if (logger.isDebugEnabled()) {
-                    logger.debug("Added path operation '{}' to header '{}'", operation, m.group(1));
+                    logger.debug("Added path operation '{}' to header '{}'", operation, header);
                 }
-                operationsGroupedByRegex.put(m.group(1), operation);
+                operationsGroupedByRegex.put(header, operation);
             } else {
                 if(logger.isWarnEnabled()) {
                     logger.warn("Operation '{}' does not match regex '{}' and will not be included in output", operation, headerPattern.toString());
@@ -78,4 +77,16 @@ public class RegexUtils {
 
         return operationsGroupedByRegex;
     }
+
+    /**
+     * Returns the header of a path, which is the first capture group of the regex pattern.
+     *
+     * @param path          the path
+     * @param headerPattern regex pattern used for determining headers
+     * @return the header, or null if the path does not match the pattern
+     */
+    public static String getHeader(String path, Pattern headerPattern) {
+        Matcher m = headerPattern.matcher(path);
+        return m.matches() ? m.group(1) : null;
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.github.swagger2markup.internal.resolver.DocumentResolver;
+import io.github.swagger2markup.internal.type.ObjectType;
+import io.github.swagger2markup.internal.type.Type;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Memoizes the types of definitions and the documents of cross-references for the current conversion, keyed by
+ * definition document resolver and definition name.<br>
+ * Cached types are shared by all references to a definition and must not be modified.
+ * The cache is thread-safe, so that operations can be rendered in parallel.
+ */
+public class TypeCache {
+
+    private final Map<DocumentResolver, Map<String, Type>> definitionTypes = new ConcurrentHashMap<>();
+    private final Map<DocumentResolver, Map<String, String>> documents = new ConcurrentHashMap<>();
+    private final ThreadLocal<Set<String>> definitionsInProgress = ThreadLocal.withInitial(HashSet::new);
+
+    /**
+     * Retrieves the type of a definition, resolving it only on the first request.<br>
+     * A definition which references itself, directly or through other definitions, is resolved as an {@code ObjectType}
+     * without properties when it is met again while being resolved.
+     *
+     * @param definitionName             the definition name
+     * @param definitionDocumentResolver the definition document resolver
+     * @param typeResolver               resolves the type of a definition
+     * @return the type of the definition
+     */
+    public Type getDefinitionType(String definitionName, DocumentResolver definitionDocumentResolver, Function<String, Type> typeResolver) {
+        Map<String, Type> types = definitionTypes.computeIfAbsent(definitionDocumentResolver, resolver -> new ConcurrentHashMap<>());
+        Type type = types.get(definitionName);
+        if (type != null)
+            return type;
+
+        Set<String> inProgress = definitionsInProgress.get();
+        if (!inProgress.add(definitionName))
+            return new ObjectType(definitionName, null);
+        try {
+            type = typeResolver.apply(definitionName);
+        } finally {
+            inProgress.remove(definitionName);
+            if (inProgress.isEmpty())
+                definitionsInProgress.remove();
+        }
+        Type previousType = types.putIfAbsent(definitionName, type);
+        return previousType != null ? previousType : type;
+    }
+
+    /**
+     * Retrieves the document of a cross-reference to a definition, applying the resolver only on the first request.
+     *
+     * @param definitionName             the definition name
+     * @param definitionDocumentResolver the definition document resolver
+     * @return the document of the definition, or null if cross-references are not inter-document
+     */
+    public String getDocument(String definitionName, DocumentResolver definitionDocumentResolver) {
+        Map<String, String> resolvedDocuments = documents.computeIfAbsent(definitionDocumentResolver, resolver -> new ConcurrentHashMap<>());
+        String document = resolvedDocuments.get(definitionName);
+        if (document == null) {
+            document = definitionDocumentResolver.apply(definitionName);
+            if (document != null)
+                resolvedDocuments.put(definitionName, document);
+        }
+        return document;
+    }
+
+    /**
+     * Discards all cached types, e.g. because the output path the documents are resolved against has changed.
+     */
+    public void clear() {
+        definitionTypes.clear();
+        documents.clear();
+    }
+}
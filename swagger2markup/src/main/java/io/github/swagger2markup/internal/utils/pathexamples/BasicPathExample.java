@@ -53,8 +53,8 @@ public class BasicPathExample implements PathExample {
         }
         boolean includeAllQueryParameters = context.getConfig().getRequestExamplesIncludeAllQueryParams();
 
-        queryParameters = operation
-                .getOperation()
+        queryParameters = context.getResolvedSwagger()
+                .getOperation(operation.getOperation())
                 .getParameters()
                 .stream()
                 .filter(it -> it.getIn().equals("query") && (it.getRequired() || includeAllQueryParameters))
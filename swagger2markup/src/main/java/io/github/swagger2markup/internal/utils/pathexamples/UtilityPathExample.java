@@ -40,8 +40,8 @@ abstract public class UtilityPathExample extends BasicPathExample {
         super(context, definitionDocumentResolver, operation);
 
 
-        List<Parameter> bodyParameters = operation
-                .getOperation()
+        List<Parameter> bodyParameters = context.getResolvedSwagger()
+                .getOperation(operation.getOperation())
                 .getParameters()
                 .stream()
                 .filter(it -> it.getIn().equals("body"))
@@ -57,8 +57,8 @@ abstract public class UtilityPathExample extends BasicPathExample {
 //
 //        });
 
-        headerParameters = operation
-                .getOperation()
+        headerParameters = context.getResolvedSwagger()
+                .getOperation(operation.getOperation())
                 .getParameters()
                 .stream()
                 .filter(it -> it.getIn().equals("header"))
@@ -17,6 +17,10 @@ package io.github.swagger2markup;
 
 import io.github.swagger2markup.assertions.DiffUtils;
 import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.github.swagger2markup.builder.Swagger2MarkupExtensionRegistryBuilder;
+import io.github.swagger2markup.config.MarkdownConverter;
+import io.github.swagger2markup.spi.OverviewDocumentExtension;
+import io.github.swagger2markup.spi.Swagger2MarkupExtensionRegistry;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.junit.Before;
@@ -28,10 +32,15 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
@@ -59,6 +68,22 @@ public class AsciidocConverterTest {
         assertThat(asciiDocAsString).isNotEmpty();
     }
 
+    @Test
+    public void testToStringWithCommonMarkConverter() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withAsciidocMarkdownConverter(MarkdownConverter.COMMONMARK)
+                .build();
+
+        //When
+        String asciiDocAsString = Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toString();
+
+        //Then
+        assertThat(asciiDocAsString).contains("http://swagger.io[Learn about Swagger] or join the IRC channel `#swagger` on irc.freenode.net.");
+    }
+
     @Test
     public void testToFolder() throws URISyntaxException {
         //Given
@@ -78,6 +103,100 @@ public class AsciidocConverterTest {
         DiffUtils.assertThatAllFilesAreEqual(expectedFilesDirectory, outputDirectory, "testToFolder.html");
     }
 
+    @Test
+    public void testToFolderConcurrently() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/to_folder_concurrently");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withParallelism(4)
+                .build();
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        String[] files = outputDirectory.toFile().list();
+        assertThat(files).hasSize(4).containsAll(expectedFiles);
+
+        Path expectedFilesDirectory = Paths.get(AsciidocConverterTest.class.getResource("/expected/asciidoc/to_folder").toURI());
+        DiffUtils.assertThatAllFilesAreEqual(expectedFilesDirectory, outputDirectory, "testToFolderConcurrently.html");
+    }
+
+    @Test
+    public void testToFoldersInSeveralMarkupLanguages() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/several_markup_languages");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Swagger2MarkupConfig markdownConfig = new Swagger2MarkupConfigBuilder()
+                .withMarkupLanguage(MarkupLanguage.MARKDOWN)
+                .withInterDocumentCrossReferences()
+                .build();
+        Swagger2MarkupConverter.from(file).withConfig(markdownConfig).build()
+                .toFolder(outputDirectory.resolve("expected_markdown"));
+
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withInterDocumentCrossReferences()
+                .withParallelism(4)
+                .build();
+        Map<MarkupLanguage, Path> outputDirectories = new HashMap<>();
+        outputDirectories.put(MarkupLanguage.ASCIIDOC, outputDirectory.resolve("asciidoc"));
+        outputDirectories.put(MarkupLanguage.MARKDOWN, outputDirectory.resolve("markdown"));
+        outputDirectories.put(MarkupLanguage.CONFLUENCE_MARKUP, outputDirectory.resolve("confluence"));
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFolders(outputDirectories);
+
+        //Then
+        assertThat(outputDirectory.resolve("asciidoc").toFile().list()).containsAll(expectedFiles);
+        assertThat(outputDirectory.resolve("confluence").toFile().list())
+                .contains("definitions.txt", "overview.txt", "paths.txt", "security.txt");
+        DiffUtils.assertThatAllFilesAreEqual(outputDirectory.resolve("expected_markdown"), outputDirectory.resolve("markdown"),
+                "testToFoldersInSeveralMarkupLanguages.html");
+    }
+
+    @Test
+    public void testToFoldersWithExtensionsOfEachMarkupLanguage() throws URISyntaxException, IOException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/several_markup_languages/extensions");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        List<OverviewDocumentExtension> extensions = Collections.synchronizedList(new ArrayList<>());
+        Supplier<Swagger2MarkupExtensionRegistry> registrySupplier = () -> {
+            OverviewDocumentExtension extension = new OverviewDocumentExtension() {
+                @Override
+                public void apply(Context context) {
+                    if (context.getPosition() == Position.DOCUMENT_END) {
+                        context.getMarkupDocBuilder().paragraph("Rendered as " + globalContext.getConfig().getMarkupLanguage());
+                    }
+                }
+            };
+            extensions.add(extension);
+            return new Swagger2MarkupExtensionRegistryBuilder().withOverviewDocumentExtension(extension).build();
+        };
+
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withParallelism(2)
+                .build();
+        Map<MarkupLanguage, Path> outputDirectories = new HashMap<>();
+        outputDirectories.put(MarkupLanguage.ASCIIDOC, outputDirectory.resolve("asciidoc"));
+        outputDirectories.put(MarkupLanguage.MARKDOWN, outputDirectory.resolve("markdown"));
+        Swagger2MarkupConverter.from(file).withConfig(config).withExtensionRegistry(registrySupplier).build()
+                .toFolders(outputDirectories);
+
+        //Then
+        assertThat(extensions).hasSize(2);
+        assertThat(extensions.get(0).globalContext).isNotSameAs(extensions.get(1).globalContext);
+        assertThat(new String(Files.readAllBytes(outputDirectory.resolve("asciidoc/overview.adoc")), StandardCharsets.UTF_8))
+                .contains("Rendered as ASCIIDOC");
+        assertThat(new String(Files.readAllBytes(outputDirectory.resolve("markdown/overview.md")), StandardCharsets.UTF_8))
+                .contains("Rendered as MARKDOWN");
+    }
+
     @Test
     public void testToFileWithoutExtension() throws URISyntaxException {
         //Given
@@ -485,6 +604,29 @@ public class AsciidocConverterTest {
         DiffUtils.assertThatAllFilesAreEqual(expectedFilesDirectory, outputDirectory, "testGroupedByTags.html");
     }
 
+    @Test
+    public void testGroupedByTagsWithParallelOperations() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/group_by_tags_parallel");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        //When
+        Swagger2MarkupConfig config =  new Swagger2MarkupConfigBuilder()
+                .withPathsGroupedBy(GroupBy.TAGS)
+                .withParallelOperations()
+                .build();
+        Swagger2MarkupConverter.from(file)
+                .withConfig(config)
+                .build()
+                .toFolder(outputDirectory);
+
+        //Then
+        String[] files = outputDirectory.toFile().list();
+        assertThat(files).hasSize(4).containsAll(expectedFiles);
+        Path expectedFilesDirectory = Paths.get(AsciidocConverterTest.class.getResource("/expected/asciidoc/group_by_tags").toURI());
+        DiffUtils.assertThatAllFilesAreEqual(expectedFilesDirectory, outputDirectory, "testGroupedByTagsWithParallelOperations.html");
+    }
+
     @Test
     public void testByTagsWithMissingTag() throws URISyntaxException {
         //Given
@@ -596,6 +738,237 @@ public class AsciidocConverterTest {
         assertThat(paths).hasSize(18);
     }
 
+    @Test
+    public void testWithIncrementalSeparatedFiles() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/incremental");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .withSeparatedOperations()
+                .withIncremental()
+                .build();
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFolder(outputDirectory);
+
+        Path petDefinition = outputDirectory.resolve("definitions").resolve("Pet.adoc");
+        Path tagDefinition = outputDirectory.resolve("definitions").resolve("Tag.adoc");
+        Files.write(petDefinition, "unchanged".getBytes(StandardCharsets.UTF_8));
+        Files.delete(tagDefinition);
+
+        //When
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        assertThat(outputDirectory.resolve(".swagger2markup-manifest")).exists();
+        assertThat(new String(Files.readAllBytes(petDefinition), StandardCharsets.UTF_8)).isEqualTo("unchanged");
+        assertThat(tagDefinition).exists();
+        assertThat(outputDirectory.resolve("operations").toFile().list()).hasSize(18);
+    }
+
+    @Test
+    public void testToLocalizedFoldersIncrementally() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/localized/incremental");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .withIncremental()
+                .build();
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toLocalizedFolders(Collections.singletonMap(Language.EN, outputDirectory));
+        Path petDefinition = outputDirectory.resolve("definitions").resolve("Pet.adoc");
+        assertThat(new String(Files.readAllBytes(petDefinition), StandardCharsets.UTF_8)).contains("Name");
+
+        //When
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toLocalizedFolders(Collections.singletonMap(Language.FR, outputDirectory));
+
+        //Then
+        assertThat(new String(Files.readAllBytes(petDefinition), StandardCharsets.UTF_8)).contains("Nom");
+    }
+
+    @Test
+    public void testWithWriteIfChanged() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/writeIfChanged");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .withWriteIfChanged()
+                .build();
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFolder(outputDirectory);
+
+        Path pathsDocument = outputDirectory.resolve("paths.adoc");
+        Path petDefinition = outputDirectory.resolve("definitions").resolve("Pet.adoc");
+        Path overviewDocument = outputDirectory.resolve("overview.adoc");
+        FileTime lastModifiedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(pathsDocument, lastModifiedTime);
+        Files.setLastModifiedTime(petDefinition, lastModifiedTime);
+        Files.write(overviewDocument, "changed".getBytes(StandardCharsets.UTF_8));
+        boolean posix = Files.getFileAttributeView(overviewDocument, PosixFileAttributeView.class) != null;
+        if (posix) {
+            Files.setPosixFilePermissions(overviewDocument, PosixFilePermissions.fromString("rw-r--r--"));
+        }
+
+        //When
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        assertThat(Files.getLastModifiedTime(pathsDocument)).isEqualTo(lastModifiedTime);
+        assertThat(Files.getLastModifiedTime(petDefinition)).isEqualTo(lastModifiedTime);
+        assertThat(new String(Files.readAllBytes(overviewDocument), StandardCharsets.UTF_8)).isNotEqualTo("changed");
+        if (posix) {
+            assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(overviewDocument))).isEqualTo("rw-r--r--");
+        }
+        assertThat(outputDirectory.toFile().list()).hasSize(5);
+    }
+
+    @Test
+    public void testBatchConversion() throws IOException, URISyntaxException {
+        //Given
+        Path petstoreFile = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path securityFile = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_security.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/batch");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Path petstoreDirectory = Files.createDirectories(outputDirectory.resolve("petstore"));
+        Path securityDirectory = Files.createDirectories(outputDirectory.resolve("security"));
+
+        //When
+        Swagger2MarkupBatchConverter.builder()
+                .withParallelism(2)
+                .build()
+                .convert(asList(
+                        new Swagger2MarkupBatchConverter.Conversion(petstoreFile, petstoreDirectory),
+                        new Swagger2MarkupBatchConverter.Conversion(securityFile, securityDirectory)));
+
+        //Then
+        assertThat(petstoreDirectory.toFile().list()).hasSize(4).containsAll(expectedFiles);
+        assertThat(securityDirectory.toFile().list()).hasSize(4).containsAll(expectedFiles);
+
+        Path referenceDirectory = Files.createDirectories(outputDirectory.resolve("reference"));
+        Swagger2MarkupConverter.from(petstoreFile).build()
+                .toFolder(referenceDirectory);
+        DiffUtils.assertThatAllFilesAreEqual(referenceDirectory, petstoreDirectory, "testBatchConversion.html");
+    }
+
+    @Test
+    public void testWatcher() throws IOException, InterruptedException, URISyntaxException {
+        //Given
+        Path outputDirectory = Paths.get("build/test/asciidoc/watcher");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Path swaggerFile = outputDirectory.resolve("swagger.yaml");
+        Path generatedDirectory = Files.createDirectories(outputDirectory.resolve("generated"));
+        Files.copy(Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI()), swaggerFile);
+        Path overviewDocument = generatedDirectory.resolve("overview.adoc");
+
+        Schema2MarkupWatcher watcher = Swagger2MarkupBatchConverter.builder().build()
+                .watcher()
+                .watchSchema(swaggerFile, generatedDirectory);
+        Thread watcherThread = new Thread(watcher);
+        watcherThread.start();
+        try {
+            awaitContent(overviewDocument, "Swagger Petstore");
+
+            //When
+            String swagger = new String(Files.readAllBytes(swaggerFile), StandardCharsets.UTF_8);
+            Files.write(swaggerFile, swagger.replace("title: Swagger Petstore", "title: Watched Petstore").getBytes(StandardCharsets.UTF_8));
+
+            //Then
+            awaitContent(overviewDocument, "Watched Petstore");
+        } finally {
+            watcher.close();
+            watcherThread.join(10000);
+        }
+        assertThat(watcherThread.isAlive()).isFalse();
+    }
+
+    private static void awaitContent(Path file, String content) throws IOException, InterruptedException {
+        long deadline = System.currentTimeMillis() + 20000;
+        while (!(Files.exists(file) && new String(Files.readAllBytes(file), StandardCharsets.UTF_8).contains(content))) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError(String.format("%s does not contain '%s'", file, content));
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    @Test
+    public void testWithCyclicComposedDefinitions() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_cyclic_composition.yaml").toURI());
+
+        //When
+        String asciiDocAsString = Swagger2MarkupConverter.from(file).build()
+                .toString();
+
+        //Then
+        assertThat(asciiDocAsString).contains("=== Node", "=== Tree", "*name*", "*children*");
+    }
+
+    @Test
+    public void testWithUnreachableDefinitionsPruning() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withPathsGroupedBy(GroupBy.REGEX)
+                .withHeaderRegex("\\/(pets)(\\/|\\w|\\{|\\})*$")
+                .withUnreachableDefinitionsPruning()
+                .build();
+
+        //When
+        String asciiDocAsString = Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toString();
+
+        //Then
+        assertThat(asciiDocAsString).contains("=== Pet", "=== Category", "=== Tag")
+                .doesNotContain("=== Order", "=== User");
+    }
+
+    @Test
+    public void testWithGeneratedExamplesBudgets() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withGeneratedExamples()
+                .withGeneratedExamplesMaxDepth(1)
+                .withGeneratedExamplesMaxProperties(2)
+                .build();
+
+        //When
+        String asciiDocAsString = Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toString();
+
+        //Then
+        assertThat(asciiDocAsString).contains("\"...\" : \"...\"", "\"category\" : \"...\"");
+    }
+
+    @Test
+    public void testWithGeneratedExamplesMaxLength() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withGeneratedExamples()
+                .withGeneratedExamplesMaxLength(10)
+                .build();
+
+        //When
+        String asciiDocAsString = Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toString();
+
+        //Then
+        assertThat(asciiDocAsString).doesNotContain("\"category\"").contains("...");
+    }
+
     @Test
     public void testWithAsciidocContentInTables() throws URISyntaxException {
 
@@ -668,6 +1041,40 @@ public class AsciidocConverterTest {
                 .contains(expected);
     }
 
+    @Test
+    public void testToLocalizedFolders() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/localized");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        Swagger2MarkupConfig germanConfig = new Swagger2MarkupConfigBuilder()
+                .withOutputLanguage(Language.DE)
+                .withGeneratedExamples()
+                .build();
+        Swagger2MarkupConverter.from(file).withConfig(germanConfig).build()
+                .toFolder(outputDirectory.resolve("expected_de"));
+
+        //When
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withGeneratedExamples()
+                .withParallelism(4)
+                .build();
+        Map<Language, Path> outputDirectories = new HashMap<>();
+        outputDirectories.put(Language.EN, outputDirectory.resolve("en"));
+        outputDirectories.put(Language.DE, outputDirectory.resolve("de"));
+        outputDirectories.put(Language.FR, outputDirectory.resolve("fr"));
+        Swagger2MarkupConverter.from(file).withConfig(config).build()
+                .toLocalizedFolders(outputDirectories);
+
+        //Then
+        assertThat(new String(Files.readAllBytes(outputDirectory.resolve("en/definitions.adoc")), StandardCharsets.UTF_8))
+                .contains("Name");
+        assertThat(new String(Files.readAllBytes(outputDirectory.resolve("fr/definitions.adoc")), StandardCharsets.UTF_8))
+                .contains("Nom");
+        DiffUtils.assertThatAllFilesAreEqual(outputDirectory.resolve("expected_de"), outputDirectory.resolve("de"),
+                "testToLocalizedFolders.html");
+    }
+
     @Test
     public void testWithMaps() throws URISyntaxException {
         //Given
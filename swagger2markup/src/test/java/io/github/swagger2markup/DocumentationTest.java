@@ -29,6 +29,7 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
@@ -81,6 +82,58 @@ public class DocumentationTest {
         // end::convertIntoString[]
     }
 
+    public void convertIntoSeveralMarkupLanguages() {
+        Path localSwaggerFile = Paths.get("/path/to/swagger.yaml");
+
+        // tag::convertIntoSeveralMarkupLanguages[]
+        Map<io.github.swagger2markup.MarkupLanguage, Path> outputDirectories = new HashMap<>(); // <1>
+        outputDirectories.put(io.github.swagger2markup.MarkupLanguage.ASCIIDOC, Paths.get("build/asciidoc"));
+        outputDirectories.put(io.github.swagger2markup.MarkupLanguage.MARKDOWN, Paths.get("build/markdown"));
+
+        Swagger2MarkupConverter.from(localSwaggerFile)
+                .build()
+                .toFolders(outputDirectories); // <2>
+        // end::convertIntoSeveralMarkupLanguages[]
+    }
+
+    public void convertIntoSeveralLanguages() {
+        Path localSwaggerFile = Paths.get("/path/to/swagger.yaml");
+
+        // tag::convertIntoSeveralLanguages[]
+        Map<Language, Path> outputDirectories = new HashMap<>(); // <1>
+        outputDirectories.put(Language.EN, Paths.get("build/asciidoc/en"));
+        outputDirectories.put(Language.DE, Paths.get("build/asciidoc/de"));
+
+        Swagger2MarkupConverter.from(localSwaggerFile)
+                .build()
+                .toLocalizedFolders(outputDirectories); // <2>
+        // end::convertIntoSeveralLanguages[]
+    }
+
+    public void convertInBatch() {
+
+        // tag::convertInBatch[]
+        Swagger2MarkupBatchConverter.builder()
+                .withParallelism(4) // <1>
+                .build()
+                .convert(Arrays.asList( // <2>
+                        new Swagger2MarkupBatchConverter.Conversion(Paths.get("/path/to/orders.yaml"), Paths.get("build/orders")),
+                        new Swagger2MarkupBatchConverter.Conversion(Paths.get("/path/to/users.yaml"), Paths.get("build/users"))));
+        // end::convertInBatch[]
+    }
+
+    public void watch() {
+
+        // tag::watch[]
+        Swagger2MarkupBatchConverter.builder()
+                .build()
+                .watcher() // <1>
+                .watchSchema(Paths.get("/path/to/swagger.yaml"), Paths.get("build/asciidoc")) // <2>
+                .watchMarkup(Paths.get("src/docs/markdown")) // <3>
+                .run(); // <4>
+        // end::watch[]
+    }
+
     public void swagger2MarkupConfigBuilder() {
         Path localSwaggerFile = Paths.get("/path/to/swagger.yaml");
 
@@ -21,6 +21,7 @@ import io.github.swagger2markup.Swagger2MarkupProperties;
 import io.github.swagger2markup.GroupBy;
 import io.github.swagger2markup.Language;
 import io.github.swagger2markup.OrderBy;
+import io.github.swagger2markup.config.MarkdownConverter;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
 import org.junit.Test;
 
@@ -77,6 +78,16 @@ public class Swagger2MarkupConfigBuilderTest {
         assertThat(config.isInterDocumentCrossReferencesEnabled()).isFalse();
         assertThat(config.isSeparatedDefinitionsEnabled()).isFalse();
         assertThat(config.isSeparatedOperationsEnabled()).isFalse();
+        assertThat(config.getParallelism()).isEqualTo(1);
+        assertThat(config.isParallelOperationsEnabled()).isFalse();
+        assertThat(config.isIncrementalEnabled()).isFalse();
+        assertThat(config.isWriteIfChangedEnabled()).isFalse();
+        assertThat(config.getAsciidocMarkdownConverter()).isEqualTo(MarkdownConverter.PEGDOWN);
+        assertThat(config.isUnreachableDefinitionsPruningEnabled()).isFalse();
+        assertThat(config.getGeneratedExamplesMaxDepth()).isEqualTo(0);
+        assertThat(config.getGeneratedExamplesMaxProperties()).isEqualTo(0);
+        assertThat(config.getGeneratedExamplesMaxArrayItems()).isEqualTo(0);
+        assertThat(config.getGeneratedExamplesMaxLength()).isEqualTo(0);
         assertThat(config.getExtensionsProperties().getKeys()).hasSize(3)
         .containsOnly("uniqueId1.customProperty1",
                 "uniqueId1.customProperty2",
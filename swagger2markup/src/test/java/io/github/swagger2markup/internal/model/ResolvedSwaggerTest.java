@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.model;
+
+import io.github.swagger2markup.Swagger2MarkupConfig;
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import io.github.swagger2markup.builder.Swagger2MarkupConfigBuilder;
+import io.swagger.models.Operation;
+import io.swagger.models.parameters.Parameter;
+import org.junit.Test;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResolvedSwaggerTest {
+
+    @Test
+    public void testResolvedSwagger() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(ResolvedSwaggerTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Swagger2MarkupConfig config = new Swagger2MarkupConfigBuilder()
+                .withParameterOrdering(Comparator.comparing(io.github.swagger2markup.model.Parameter::getName).reversed())
+                .withResponseOrdering(Comparator.<String>reverseOrder())
+                .build();
+        Swagger2MarkupConverter.SwaggerContext context = Swagger2MarkupConverter.from(file).withConfig(config).build().getContext();
+        Operation updatePetWithForm = context.getSchema().getPaths().get("/pets/{petId}").getPost();
+        Operation getPetById = context.getSchema().getPaths().get("/pets/{petId}").getGet();
+
+        //When
+        ResolvedSwagger resolvedSwagger = context.getResolvedSwagger();
+
+        //Then
+        assertThat(resolvedSwagger).isSameAs(context.getResolvedSwagger());
+        assertThat(resolvedSwagger.getPathOperations()).hasSize(18);
+        assertThat(resolvedSwagger.getOperation(updatePetWithForm).getParameters())
+                .extracting(Parameter::getName).containsExactly("status", "petId", "name");
+        assertThat(updatePetWithForm.getParameters())
+                .extracting(Parameter::getName).containsExactly("petId", "name", "status");
+        assertThat(resolvedSwagger.getOperation(getPetById).getResponses().keySet()).containsExactly("404", "400", "200");
+    }
+}
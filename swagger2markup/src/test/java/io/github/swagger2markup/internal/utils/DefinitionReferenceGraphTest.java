@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.github.swagger2markup.Swagger2MarkupConverter;
+import io.github.swagger2markup.model.SwaggerPathOperation;
+import io.swagger.models.Swagger;
+import org.junit.Test;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DefinitionReferenceGraphTest {
+
+    @Test
+    public void testReachableDefinitions() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(DefinitionReferenceGraphTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Swagger2MarkupConverter.SwaggerContext context = Swagger2MarkupConverter.from(file).build().getContext();
+        Swagger swagger = context.getSchema();
+        List<SwaggerPathOperation> petOperations = PathUtils.toPathOperationsList("/pets", swagger.getPaths().get("/pets"));
+        List<SwaggerPathOperation> orderOperations = PathUtils.toPathOperationsList("/stores/order", swagger.getPaths().get("/stores/order"));
+
+        //When
+        DefinitionReferenceGraph graph = context.getDefinitionReferenceGraph();
+
+        //Then
+        assertThat(graph).isSameAs(context.getDefinitionReferenceGraph());
+        assertThat(graph.getReferencedDefinitions("Pet")).containsOnly("Category", "Tag");
+        assertThat(graph.getReferencedDefinitions(petOperations.get(0).getOperation())).containsOnly("Pet");
+        assertThat(graph.getReachableDefinitions(petOperations)).containsOnly("Pet", "Category", "Tag");
+        assertThat(graph.getReachableDefinitions(orderOperations)).containsOnly("Order");
+        assertThat(graph.getReachableDefinitions(Collections.emptyList())).isEmpty();
+        assertThat(graph.isCyclic("Pet")).isFalse();
+        assertThat(graph.getStronglyConnectedComponent("Pet")).containsOnly("Pet");
+    }
+
+    @Test
+    public void testCyclicDefinitions() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(DefinitionReferenceGraphTest.class.getResource("/yaml/swagger_cyclic_composition.yaml").toURI());
+        Swagger2MarkupConverter.SwaggerContext context = Swagger2MarkupConverter.from(file).build().getContext();
+
+        //When
+        DefinitionReferenceGraph graph = context.getDefinitionReferenceGraph();
+
+        //Then
+        assertThat(graph.isCyclic("Node")).isTrue();
+        assertThat(graph.isCyclic("Tree")).isTrue();
+        assertThat(graph.getStronglyConnectedComponent("Node")).containsOnly("Node", "Tree");
+        assertThat(graph.getStronglyConnectedComponent("Tree")).isSameAs(graph.getStronglyConnectedComponent("Node"));
+    }
+}